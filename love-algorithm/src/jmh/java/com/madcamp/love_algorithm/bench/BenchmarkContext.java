@@ -0,0 +1,94 @@
+package com.madcamp.love_algorithm.bench;
+
+import com.madcamp.love_algorithm.LoveAlgorithmApplication;
+import com.madcamp.love_algorithm.dto.GameStateDto;
+import com.madcamp.love_algorithm.entity.User;
+import com.madcamp.love_algorithm.repository.SaveSlotJdbcRepository;
+import com.madcamp.love_algorithm.repository.UserRepository;
+import com.madcamp.love_algorithm.service.GameService;
+import com.madcamp.love_algorithm.service.GameStateCodec;
+import com.madcamp.love_algorithm.service.SaveService;
+import com.madcamp.love_algorithm.service.ScenarioCache;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+// 벤치마크 공용 상태: 인메모리 H2(MySQL 모드)로 스프링 컨텍스트를 띄우고
+// InitialLoader가 실제 시나리오 파일(classpath:scenario/)을 적재한 뒤의 데이터로 측정합니다.
+// 웹 서버는 띄우지 않고 서비스 빈을 직접 호출합니다.
+@State(Scope.Benchmark)
+public class BenchmarkContext {
+
+    static final String USER_NAME = "민수";
+    private static final int SAVE_SLOTS = 3;
+
+    ConfigurableApplicationContext context;
+    GameService gameService;
+    SaveService saveService;
+    ScenarioCache.SceneNode scene;    // 대사가 가장 많은 장면
+    ScenarioCache.OptionNode option;  // 점수가 붙은 첫 선택지 (chapter4 자리 선택)
+    Long userId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        // application.properties(MySQL)보다 우선하도록 명령행 인자로 넘깁니다.
+        context = new SpringApplicationBuilder(LoveAlgorithmApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:love_algorithm_bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--game.auth.jwt-secret=bench-only-secret-0123456789-abcdefghijklmnop",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+
+        gameService = context.getBean(GameService.class);
+        saveService = context.getBean(SaveService.class);
+
+        ScenarioCache scenarioCache = context.getBean(ScenarioCache.class);
+        scene = scenarioCache.getScenes().stream()
+                .max(Comparator.comparingInt(s -> s.scripts().size()))
+                .orElseThrow(() -> new IllegalStateException("적재된 장면이 없습니다."));
+        // 장면 ID 순으로 골라 실행마다 같은 선택지를 측정합니다.
+        option = scenarioCache.getScenes().stream()
+                .sorted(Comparator.comparing(ScenarioCache.SceneNode::id))
+                .flatMap(s -> s.options().stream())
+                .filter(o -> !o.scores().isEmpty())
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "점수가 붙은 선택지가 없습니다. scenario/*.jsonl에 score_list가 있는 선택지가 필요합니다."));
+
+        userId = context.getBean(UserRepository.class).save(User.builder()
+                .name(USER_NAME)
+                .createdAt(LocalDateTime.now())
+                .build()).getId();
+
+        // 세이브 목록 조회용 슬롯
+        SaveSlotJdbcRepository saveSlots = context.getBean(SaveSlotJdbcRepository.class);
+        GameStateCodec codec = context.getBean(GameStateCodec.class);
+        for (int slot = 1; slot <= SAVE_SLOTS; slot++) {
+            byte[] state = codec.encode(GameStateDto.builder()
+                    .currentSceneId(scene.id())
+                    .history(List.of(scene.id()))
+                    .affections(Map.of())
+                    .build());
+            saveSlots.upsert(userId, slot, scene.id(), "벤치마크 " + slot, state, LocalDateTime.now());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+}
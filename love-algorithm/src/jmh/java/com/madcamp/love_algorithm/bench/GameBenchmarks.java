@@ -0,0 +1,46 @@
+package com.madcamp.love_algorithm.bench;
+
+import com.madcamp.love_algorithm.dto.SaveSlotResponseDto;
+import com.madcamp.love_algorithm.dto.SceneResponseDto;
+import com.madcamp.love_algorithm.dto.ScriptResponseDto;
+import com.madcamp.love_algorithm.service.ScenarioCache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 장면 조회/선택지/세이브 목록 핫패스 벤치마크 (./gradlew jmh, GC 프로파일러로 op당 할당량도 함께 확인)
+// - scriptResponseFrom: 대사 한 장면 분량의 이름 치환 (ScriptResponseDto.from)
+// - getScene: 캐시된 장면 → SceneResponseDto 매핑 (유저 이름 조회 포함)
+// - selectOption: 선택지 점수 합산 + 호감도 upsert (H2, write-behind 설정을 따름)
+// - getSaveSlots: 세이브 목록 조회 (요약 컬럼만)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameBenchmarks {
+
+    @Benchmark
+    public void scriptResponseFrom(BenchmarkContext ctx, Blackhole blackhole) {
+        for (ScenarioCache.ScriptNode script : ctx.scene.scripts()) {
+            blackhole.consume(ScriptResponseDto.from(script, BenchmarkContext.USER_NAME));
+        }
+    }
+
+    @Benchmark
+    public SceneResponseDto getScene(BenchmarkContext ctx) {
+        return ctx.gameService.getScene(ctx.scene.id(), ctx.userId);
+    }
+
+    @Benchmark
+    public String selectOption(BenchmarkContext ctx) {
+        return ctx.gameService.selectOption(ctx.userId, ctx.option.id());
+    }
+
+    @Benchmark
+    public List<SaveSlotResponseDto> getSaveSlots(BenchmarkContext ctx) {
+        return ctx.saveService.getSaveSlots(ctx.userId);
+    }
+}
@@ -0,0 +1,27 @@
+package com.madcamp.love_algorithm.config;
+
+import com.madcamp.love_algorithm.metrics.CountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+// 요청별 SQL 문장 수를 세기 위해 DataSource를 CountingDataSource로 감쌉니다.
+// (BeanPostProcessor는 다른 빈보다 먼저 만들어져야 하므로 static)
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor countingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+                    return new CountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
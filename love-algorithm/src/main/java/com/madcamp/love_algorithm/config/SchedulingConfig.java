@@ -0,0 +1,10 @@
+package com.madcamp.love_algorithm.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 작업(호감도 write-behind flush 등)을 켭니다.
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,34 @@
+package com.madcamp.love_algorithm.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// 가상 스레드 실행 모드 (spring.threads.virtual.enabled=true, Java 21 이상)
+// 톰캣 요청 처리/스케줄러/비동기 작업은 스프링 부트가 가상 스레드로 바꿔 주고,
+// 여기서는 커넥션 풀 앞에 동시 접근 제한(ConnectionLimitingDataSource)을 겁니다.
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${game.virtual-threads.max-db-concurrency:10}") int maxConcurrency,
+            @Value("${game.virtual-threads.db-acquire-timeout:3s}") Duration timeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    System.out.println(">>> 가상 스레드 모드: DB 동시 접근 " + maxConcurrency + "개로 제한 (대기 한도 " + timeout + ")");
+                    return new ConnectionLimitingDataSource(dataSource, maxConcurrency, timeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,13 +1,24 @@
 package com.madcamp.love_algorithm.config;
 
+import com.madcamp.love_algorithm.metrics.SqlMetricsInterceptor;
+import com.madcamp.love_algorithm.security.LoginUserArgumentResolver;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final LoginUserArgumentResolver loginUserArgumentResolver;
+    private final SqlMetricsInterceptor sqlMetricsInterceptor;
+
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**") // 모든 API 경로에 대해
@@ -16,6 +27,19 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedHeaders("*") // 모든 헤더 허용
                 .allowCredentials(true); // 쿠키나 인증 정보를 포함한 요청 허용
     }
+
+    // 컨트롤러의 @LoginUser Long userId (액세스 토큰에서 꺼냄)
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(loginUserArgumentResolver);
+    }
+
+    // API 요청별 SQL 문장 수 (http.server.requests.sql)
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sqlMetricsInterceptor).addPathPatterns("/api/**");
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         registry.addResourceHandler("/api/images/**")
@@ -1,9 +1,12 @@
 package com.madcamp.love_algorithm.controller;
 
 import com.madcamp.love_algorithm.dto.*;
+import com.madcamp.love_algorithm.security.AuthPrincipal;
 import com.madcamp.love_algorithm.service.AuthService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -26,13 +29,42 @@ public class AuthController {
     // 프론트의 login()에 대응: POST /api/auth/login
     @PostMapping("/login")
     public ApiResponse<Map<String, String>> login(@RequestBody AuthRequestDto request) {
-        AuthResponseDto originalResponse = authService.login(request);
+        return ApiResponse.success(tokens(authService.login(request)));
+    }
 
-        // 프론트엔드가 token과 refreshToken 두 개를 기다리므로 맞춰줌
-        Map<String, String> data = new HashMap<>();
-        data.put("token", originalResponse.getToken());
-        data.put("refreshToken", "dummy-refresh-token");
+    // 액세스 토큰 재발급: POST /api/auth/refresh { refreshToken } (리프레시 토큰도 새로 교체됨)
+    @PostMapping("/refresh")
+    public ApiResponse<Map<String, String>> refresh(@RequestBody RefreshRequestDto request) {
+        return ApiResponse.success(tokens(authService.refresh(request)));
+    }
+
+    // 새 게임 시작 (캐릭터 생성): POST /api/auth/character { name }
+    // 로그인 토큰의 계정에 캐릭터를 만들고, userId가 들어간 토큰으로 다시 발급합니다.
+    @PostMapping("/character")
+    public ApiResponse<Map<String, String>> createCharacter(
+            @RequestBody CreateUserRequestDto request,
+            @RequestAttribute(name = AuthPrincipal.REQUEST_ATTRIBUTE, required = false) AuthPrincipal principal) {
+        if (principal == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
+        }
+        return ApiResponse.success(tokens(authService.createCharacter(principal.accountId(), request)));
+    }
 
-        return ApiResponse.success(data);
+    // 프론트의 logout()에 대응: POST /api/auth/logout
+    @PostMapping("/logout")
+    public ApiResponse<Boolean> logout(
+            @RequestAttribute(name = AuthPrincipal.REQUEST_ATTRIBUTE, required = false) AuthPrincipal principal) {
+        if (principal != null) {
+            authService.logout(principal.accountId(), principal.userId());
+        }
+        return ApiResponse.success(true);
+    }
+
+    // 프론트엔드가 token과 refreshToken 두 개를 기다리므로 맞춰줌
+    private static Map<String, String> tokens(AuthResponseDto response) {
+        Map<String, String> data = new HashMap<>();
+        data.put("token", response.getToken());
+        data.put("refreshToken", response.getRefreshToken());
+        return data;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package com.madcamp.love_algorithm.controller;
+
+import com.madcamp.love_algorithm.dto.ApiResponse;
+import com.madcamp.love_algorithm.dto.AutosaveRequestDto;
+import com.madcamp.love_algorithm.dto.AutosaveResponseDto;
+import com.madcamp.love_algorithm.dto.LoadGameResponseDto;
+import com.madcamp.love_algorithm.security.LoginUser;
+import com.madcamp.love_algorithm.service.SaveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+// 자동 저장 (수동 세이브 슬롯과 별개로 유저당 최근 체크포인트 몇 개를 돌려 씀)
+@RestController
+@RequestMapping("/api/save/autosaves")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:5174")
+public class AutosaveController {
+
+    private final SaveService saveService;
+
+    // 1. 체크포인트 추가 (메모리에만 넣고 바로 응답, DB 반영은 비동기)
+    @PostMapping
+    public ApiResponse<AutosaveResponseDto> autosave(@RequestBody AutosaveRequestDto request,
+                                                     @LoginUser Long userId) {
+        // 저장 대상은 항상 토큰의 유저 (본문의 userId는 받지 않음)
+        return ApiResponse.success(saveService.autosave(userId, request));
+    }
+
+    // 2. 체크포인트 목록 (최근 순)
+    @GetMapping
+    public ApiResponse<List<AutosaveResponseDto>> getAutosaves(
+            @LoginUser Long userId) {
+        return ApiResponse.success(saveService.getAutosaves(userId));
+    }
+
+    // 3. 가장 최근 체크포인트 불러오기
+    @GetMapping("/latest")
+    public ApiResponse<LoadGameResponseDto> loadLatest(
+            @LoginUser Long userId) {
+        return ApiResponse.success(saveService.loadAutosave(userId, null));
+    }
+
+    // 4. 특정 체크포인트 불러오기
+    @GetMapping("/{seq}")
+    public ApiResponse<LoadGameResponseDto> loadAutosave(
+            @PathVariable("seq") long seq,
+            @LoginUser Long userId) {
+        return ApiResponse.success(saveService.loadAutosave(userId, seq));
+    }
+}
@@ -1,15 +1,23 @@
 package com.madcamp.love_algorithm.controller;
 
+import com.madcamp.love_algorithm.dto.AffinityBulkRequestDto;
 import com.madcamp.love_algorithm.dto.ApiResponse;
-import com.madcamp.love_algorithm.dto.SceneResponseDto;
-import com.madcamp.love_algorithm.entity.Scene;
-import com.madcamp.love_algorithm.repository.SceneRepository;
+import com.madcamp.love_algorithm.security.LoginUser;
 import com.madcamp.love_algorithm.service.GameService;
+import com.madcamp.love_algorithm.service.ScenarioExportWriter;
+import com.madcamp.love_algorithm.service.ScenarioSnapshot;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @CrossOrigin(origins = "http://localhost:5174")
 @RestController
@@ -18,29 +26,132 @@ import java.util.stream.Collectors;
 public class GameController {
 
     private final GameService gameService;
-    private final SceneRepository sceneRepository;
+    private final ScenarioExportWriter scenarioExportWriter;
+    private final ScenarioSnapshot scenarioSnapshot;
 
     // 프론트의 fetchGameScript()에 대응: GET /api/script
+    // 부팅 시 만들어 둔 스냅샷(원본/gzip)을 ETag와 함께 내려주고, 같은 ETag면 304를 반환합니다.
     @GetMapping("/script")
-    public ApiResponse<Map<String, Scene>> getAllScripts() {
-        Map<String, Scene> data = sceneRepository.findAll().stream()
-                .collect(Collectors.toMap(s -> s.getId(), s -> s));
-        return ApiResponse.success(data);
+    public ResponseEntity<?> getAllScripts(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ScenarioSnapshot.Snapshot snapshot = scenarioSnapshot.get();
+
+        // 스냅샷이 아직 없으면 (부팅 직후) 스트리밍으로 바로 씁니다.
+        if (snapshot == null) {
+            StreamingResponseBody body = scenarioExportWriter::writeScripts;
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(body);
+        }
+
+        // 원본과 gzip은 서로 다른 표현이므로 ETag도 따로 씁니다. (gzip 쪽은 -gz 접미사)
+        boolean gzip = ScenarioSnapshot.acceptsGzip(acceptEncoding);
+        String etag = gzip ? snapshot.gzipEtag() : snapshot.etag();
+
+        if (ScenarioSnapshot.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            return response.body(snapshot.gzip());
+        }
+        if (snapshot.identity() == null) {
+            // 매핑 모드: 원본 사본을 힙에 두지 않으므로 매핑 영역에서 바로 씁니다.
+            StreamingResponseBody body = scenarioExportWriter::writeScripts;
+            return response.body(body);
+        }
+        return response.body(snapshot.identity());
     }
 
     // 프론트의 fetchScene()에 대응: GET /api/script/scene/{sceneId}
+    // ETag에는 플레이어 이름이 포함되므로 이름이 바뀌면 새 응답을 받습니다.
+    // 본문은 미리 직렬화해 둔 장면 템플릿에 이름만 끼워 넣은 바이트입니다. (ApiResponse<SceneResponseDto> 모양)
+    // ?lookahead=N 이면 data.prefetched 에 다음 장면들(기본 다음 장면 + 선택지 다음 장면, N단계까지)을 함께 담습니다.
     @GetMapping("/script/scene/{sceneId}")
-    public ApiResponse<SceneResponseDto> getScene(
+    public ResponseEntity<byte[]> getScene(
             @PathVariable String sceneId,
-            @RequestParam(required = false, defaultValue = "1") Long userId) {
-        return ApiResponse.success(gameService.getScene(sceneId, userId));
+            @LoginUser Long userId,
+            @RequestParam(defaultValue = "0") int lookahead,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        String userName = gameService.getUserName(userId);
+
+        // 묶음이면 넣을 장면만 먼저 고르고(바이트 조립 없음), 그 ID들로 ETag를 계산합니다.
+        List<String> bundleIds = lookahead > 0 ? gameService.selectSceneBundle(sceneId, userName, lookahead) : null;
+        String etag = bundleIds != null
+                ? gameService.getSceneETag(bundleIds, userName)
+                : gameService.getSceneETag(sceneId, userName);
+
+        if (etag != null && ScenarioSnapshot.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        // 304가 아닐 때만 본문 조립
+        byte[] body = bundleIds != null
+                ? gameService.renderSceneBundleJson(bundleIds, userName)
+                : gameService.renderSceneJson(sceneId, userName);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache());
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        return response.body(body);
+    }
+
+    // 선택지 선택: POST /api/script/option/{optionId} (호감도 반영 후 다음 씬 ID 반환)
+    @PostMapping("/script/option/{optionId}")
+    public ApiResponse<String> selectOption(
+            @PathVariable Long optionId,
+            @LoginUser Long userId) {
+        return ApiResponse.success(gameService.selectOption(userId, optionId));
+    }
+
+    // 프론트의 fetchAllAffections()에 대응: GET /api/affection/all (캐릭터별 호감도 한 번에)
+    @GetMapping("/affection/all")
+    public ApiResponse<Map<String, Integer>> getAllAffinities(
+            @LoginUser Long userId) {
+        return ApiResponse.success(gameService.getAllAffinityScores(userId));
+    }
+
+    // 프론트의 updateAffections()에 대응: POST /api/affection/bulk (변화량을 한 트랜잭션으로 반영)
+    // JSON 모양이 틀리면(숫자가 아닌 값 등) 스프링이 400으로 돌려주고, 값이 null이거나 캐릭터 ID가 비어 있으면 여기서 400
+    @PostMapping("/affection/bulk")
+    public ApiResponse<Boolean> addAffinities(
+            @RequestBody AffinityBulkRequestDto request,
+            @LoginUser Long userId) {
+        Map<String, Integer> affections = request.getAffections();
+        if (affections == null) {
+            return ApiResponse.success(true);
+        }
+        affections.forEach((targetCharacterId, delta) -> {
+            if (targetCharacterId == null || targetCharacterId.isBlank() || delta == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "호감도 변화량 형식이 잘못되었습니다: " + targetCharacterId + "=" + delta);
+            }
+        });
+        gameService.addAffinityScores(userId, affections);
+        return ApiResponse.success(true);
     }
 
     // 프론트의 fetchAffection()에 대응: GET /api/affection/{characterId}
     @GetMapping("/affection/{targetCharacterId}")
     public ApiResponse<Integer> getAffinity(
             @PathVariable String targetCharacterId,
-            @RequestParam(required = false, defaultValue = "1") Long userId) {
+            @LoginUser Long userId) {
         return ApiResponse.success(gameService.getAffinityScore(userId, targetCharacterId));
     }
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.madcamp.love_algorithm.controller;
 
 import com.madcamp.love_algorithm.dto.ApiResponse; // [중요] 아까 만든 공통 응답 DTO
+import com.madcamp.love_algorithm.dto.LoadGameResponseDto;
 import com.madcamp.love_algorithm.dto.SaveRequestDto;
 import com.madcamp.love_algorithm.dto.SaveSlotResponseDto;
+import com.madcamp.love_algorithm.security.LoginUser;
 import com.madcamp.love_algorithm.service.SaveService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -21,7 +23,7 @@ public class SaveController {
     // 1. 세이브 슬롯 목록 조회 (프론트: fetchSaveSlots)
     @GetMapping
     public ApiResponse<List<SaveSlotResponseDto>> getSaveSlots(
-            @RequestParam(value = "userId", required = false, defaultValue = "1") Long userId) {
+            @LoginUser Long userId) {
 
         List<SaveSlotResponseDto> slots = saveService.getSaveSlots(userId);
         return ApiResponse.success(slots); // { success: true, data: [...] } 형태로 반환
@@ -29,31 +31,38 @@ public class SaveController {
 
     // 2. 게임 저장하기 (프론트: saveToSlot)
     @PostMapping
-    public ApiResponse<Boolean> saveGame(@RequestBody SaveRequestDto request) {
-        saveService.saveGame(request);
+    public ApiResponse<Boolean> saveGame(@RequestBody SaveRequestDto request,
+                                         @LoginUser Long userId) {
+        // 저장 대상은 항상 토큰의 유저 (본문의 userId는 받지 않음)
+        saveService.saveGame(userId, request);
         return ApiResponse.success(true);
     }
 
     // 3. 불러오기 (프론트: loadFromSlot)
     // 프론트 주소: /api/save/slots/${slotIndex}
     @GetMapping("/{slotNumber}")
-    public ApiResponse<Object> loadGame(
+    public ApiResponse<LoadGameResponseDto> loadGame(
             @PathVariable("slotNumber") int slotNumber,
-            @RequestParam(value = "userId", required = false, defaultValue = "1") Long userId) {
+            @LoginUser Long userId) {
 
-        // 프론트엔드는 이 API에서 'game_state' 객체가 담긴 data를 기다립니다.
-        // 서비스 로직에 따라 gameState 객체를 반환하도록 구성해야 합니다.
-        Object gameState = saveService.loadGame(userId, slotNumber);
-        return ApiResponse.success(gameState);
+        // 프론트엔드는 이 API에서 { gameState, heroName } 을 기다립니다.
+        return ApiResponse.success(saveService.loadGame(userId, slotNumber));
     }
 
     // 4. 삭제 (프론트: deleteSaveSlot)
     @DeleteMapping("/{slotNumber}")
     public ApiResponse<Boolean> deleteSaveSlot(
             @PathVariable("slotNumber") int slotNumber,
-            @RequestParam(value = "userId", required = false, defaultValue = "1") Long userId) {
+            @LoginUser Long userId) {
 
-        // saveService.deleteSaveSlot(userId, slotNumber); // 서비스에 삭제 로직이 있다면 추가
-        return ApiResponse.success(true);
+        // 지운 슬롯이 있으면 true
+        return ApiResponse.success(saveService.deleteSaveSlot(userId, slotNumber));
+    }
+
+    // 5. 전체 삭제 (유저의 모든 슬롯, 지운 슬롯 수 반환)
+    @DeleteMapping
+    public ApiResponse<Integer> deleteAllSaveSlots(
+            @LoginUser Long userId) {
+        return ApiResponse.success(saveService.deleteAllSaveSlots(userId));
     }
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.madcamp.love_algorithm.controller;
 
+import com.madcamp.love_algorithm.dto.ApiResponse;
 import com.madcamp.love_algorithm.dto.AuthResponseDto;
+import com.madcamp.love_algorithm.dto.ProgressRequestDto;
+import com.madcamp.love_algorithm.security.LoginUser;
 import com.madcamp.love_algorithm.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -15,7 +18,18 @@ public class UserController {
 
     // 내 정보 조회 API
     @GetMapping("/me")
-    public ResponseEntity<AuthResponseDto> getMyInfo(@RequestParam Long userId) {
+    public ResponseEntity<AuthResponseDto> getMyInfo(@LoginUser Long userId) {
         return ResponseEntity.ok(userService.getMyInfo(userId));
     }
+
+    // 프론트의 updateUserProgress()에 대응: POST /api/users/progress
+    // 씬/대사 넘길 때마다 호출되므로 바로 쓰지 않고 모았다가 반영합니다. 세션 종료 시 final=true 로 즉시 반영.
+    @PostMapping("/progress")
+    public ResponseEntity<ApiResponse<Boolean>> updateProgress(
+            @RequestBody ProgressRequestDto request,
+            @LoginUser Long userId,
+            @RequestParam(name = "final", required = false, defaultValue = "false") boolean finalFlush) {
+        userService.updateProgress(userId, request, finalFlush);
+        return ResponseEntity.ok(ApiResponse.success(true));
+    }
 }
\ No newline at end of file
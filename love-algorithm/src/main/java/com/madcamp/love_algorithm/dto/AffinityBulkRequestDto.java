@@ -0,0 +1,12 @@
+package com.madcamp.love_algorithm.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+public class AffinityBulkRequestDto {
+    private Map<String, Integer> affections; // 캐릭터 ID -> 더할 점수 (예: {"dohee": 5, "jisoo": -2})
+}
@@ -8,7 +8,8 @@ import lombok.Getter;
 @Getter
 @Builder
 public class AuthResponseDto {
-    private String token;
+    private String token;        // 액세스 토큰 (JWT)
+    private String refreshToken; // 재발급용, 한 번 쓰면 교체됨
     private Long accountId;
     private Long userId;       // 캐릭터가 없으면 null
     private String email;
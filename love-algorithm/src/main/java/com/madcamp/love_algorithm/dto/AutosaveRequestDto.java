@@ -0,0 +1,11 @@
+package com.madcamp.love_algorithm.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class AutosaveRequestDto {
+    private String previewText;
+    private GameStateDto gameState;
+}
@@ -0,0 +1,13 @@
+package com.madcamp.love_algorithm.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class AutosaveResponseDto {
+    private long seq;           // 클수록 최신 (불러오기 때 사용)
+    private String sceneId;
+    private String previewText;
+    private String savedAt;     // "2026-01-19 14:00" 형식
+}
@@ -6,6 +6,6 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 public class CreateUserRequestDto {
-    private Long accountId; // 연결할 계정 ID
+    private Long accountId; // 예전 요청 형식 호환용 (계정은 액세스 토큰에서 가져옴)
     private String name;    // 게임 내에서 사용할 캐릭터 이름
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.madcamp.love_algorithm.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+// 프론트 GameState와 같은 모양
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GameStateDto {
+    private String currentSceneId;
+    private int currentDialogueIndex;
+    private List<String> history;               // 방문한 scene ID들
+    private Map<String, Integer> affections;    // 캐릭터별 호감도
+    private Map<String, Integer> miniGameScores; // 게임별 최고 점수
+    private Map<String, Object> previousValues;  // 직전 이미지/사운드 (저장/불러오기용)
+}
@@ -0,0 +1,12 @@
+package com.madcamp.love_algorithm.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 불러오기 응답: 프론트 loadFromSlot()이 기대하는 { gameState, heroName } 모양
+@Getter
+@Builder
+public class LoadGameResponseDto {
+    private GameStateDto gameState;
+    private String heroName;
+}
@@ -1,6 +1,7 @@
 package com.madcamp.love_algorithm.dto;
 
 import com.madcamp.love_algorithm.entity.Option;
+import com.madcamp.love_algorithm.service.ScenarioCache;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -18,4 +19,12 @@ public class OptionDto {
                 .nextSceneId(option.getNextSceneId())
                 .build();
     }
+
+    public static OptionDto from(ScenarioCache.OptionNode option) {
+        return OptionDto.builder()
+                .id(option.id())
+                .text(option.text())
+                .nextSceneId(option.nextSceneId())
+                .build();
+    }
 }
\ No newline at end of file
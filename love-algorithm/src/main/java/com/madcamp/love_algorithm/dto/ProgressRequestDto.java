@@ -0,0 +1,12 @@
+package com.madcamp.love_algorithm.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 프론트 updateUserProgress() 요청 본문: { gameState, heroName }
+@Getter
+@NoArgsConstructor
+public class ProgressRequestDto {
+    private GameStateDto gameState;
+    private String heroName;
+}
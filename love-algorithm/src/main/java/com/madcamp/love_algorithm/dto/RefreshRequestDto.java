@@ -0,0 +1,10 @@
+package com.madcamp.love_algorithm.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class RefreshRequestDto {
+    private String refreshToken;
+}
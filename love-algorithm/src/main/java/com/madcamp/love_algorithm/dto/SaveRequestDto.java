@@ -6,8 +6,8 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 public class SaveRequestDto {
-    private Long userId;
     private int slotNumber;
     private String sceneId;
     private String previewText;
+    private GameStateDto gameState; // 전체 게임 상태 (없으면 sceneId만 저장)
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.madcamp.love_algorithm.dto;
+
+import java.time.LocalDateTime;
+
+// 세이브 목록 조회용 프로젝션 (SaveSlotRepository.findSummariesByUserId)
+public record SaveSlotSummary(int slotNumber, String sceneId, String previewText, LocalDateTime savedAt) {
+}
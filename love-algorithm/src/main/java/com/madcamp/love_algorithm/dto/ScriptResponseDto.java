@@ -1,6 +1,8 @@
 package com.madcamp.love_algorithm.dto;
 
 import com.madcamp.love_algorithm.entity.Script;
+import com.madcamp.love_algorithm.entity.ScriptType;
+import com.madcamp.love_algorithm.service.ScenarioCache;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -15,24 +17,37 @@ public class ScriptResponseDto {
     private String content; // 이름이 치환된 대사
 
     public static ScriptResponseDto from(Script script, String userName) {
+        return of(script.getId(), script.getScriptIndex(), script.getType(),
+                script.getSpeakerId(), script.getContent(), userName);
+    }
+
+    // ScenarioCache의 불변 대사 레코드로부터 생성 (DB 조회 없음)
+    public static ScriptResponseDto from(ScenarioCache.ScriptNode script, String userName) {
+        return of(script.id(), script.scriptIndex(), script.type(),
+                script.speakerId(), script.content(), userName);
+    }
+
+    private static ScriptResponseDto of(String id, int scriptIndex, ScriptType type,
+                                        String speakerId, String content, String userName) {
         // 1. 화자가 'hero'이면 사용자 이름으로 설정
-        String actualSpeakerName = script.getSpeakerId();
-        if ("hero".equals(script.getSpeakerId())) {
+        String actualSpeakerName = speakerId;
+        if ("hero".equals(speakerId)) {
             actualSpeakerName = userName;
         }
 
-        // 2. 대사 내용 중에 "도훈"이 있으면 사용자 이름으로 치환
-        String processedContent = script.getContent();
+        // 2. 대사 내용 중에 "이도훈"/"도훈"이 있으면 사용자 이름으로 치환
+        // 풀네임을 먼저 바꿔야 "이도훈"이 "이" + 이름으로 남지 않습니다.
+        String processedContent = content;
         if (processedContent != null) {
+            processedContent = processedContent.replace("이도훈", userName);
             processedContent = processedContent.replace("도훈", userName);
-            processedContent = processedContent.replace("이도훈", userName); // 풀네임도 대응
         }
 
         return ScriptResponseDto.builder()
-                .id(script.getId())
-                .scriptIndex(script.getScriptIndex())
-                .type(script.getType().name())
-                .speakerId(script.getSpeakerId())
+                .id(id)
+                .scriptIndex(scriptIndex)
+                .type(type.name())
+                .speakerId(speakerId)
                 .speakerName(actualSpeakerName)
                 .content(processedContent)
                 .build();
@@ -0,0 +1,10 @@
+package com.madcamp.love_algorithm.dto;
+
+// 요청마다 필요한 유저 기본 정보 (UserProfileCache에 보관, 엔티티 대신 사용)
+public record UserProfile(
+        Long userId,
+        String name,
+        String currentSceneId,
+        Long accountId,   // 계정 연결 전이면 null
+        String email) {
+}
@@ -0,0 +1,45 @@
+package com.madcamp.love_algorithm.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 자동 저장 체크포인트 (유저당 game.autosave.ring-size 개의 칸을 돌려 씀)
+// AutosaveBuffer가 메모리에 들고 있다가 AutosaveJdbcRepository로 모아서 upsert 합니다.
+@Entity
+@Table(name = "autosaves",
+        uniqueConstraints = @UniqueConstraint(name = "uk_autosaves_user_ring",
+                columnNames = {"user_id", "ring_index"})) // 유저당 칸 번호별 1행 (upsert 기준 키)
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Autosave {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Column(name = "ring_index")
+    private int ringIndex; // seq % ring-size
+
+    @Column(name = "seq")
+    private long seq; // 유저별 증가 번호 (클수록 최신)
+
+    @Column(name = "scene_id")
+    private String sceneId;
+
+    @Column(name = "preview_text")
+    private String previewText;
+
+    // 전체 게임 상태 (GameStateCodec 바이너리)
+    @Column(name = "game_state", columnDefinition = "MEDIUMBLOB")
+    private byte[] gameState;
+
+    @Column(name = "saved_at")
+    private LocalDateTime savedAt;
+}
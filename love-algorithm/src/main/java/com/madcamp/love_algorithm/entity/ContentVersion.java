@@ -0,0 +1,26 @@
+package com.madcamp.love_algorithm.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 챕터별로 마지막으로 적재한 시나리오 콘텐츠 해시 (부팅 시 바뀐 챕터만 다시 적재하기 위함)
+@Entity
+@Table(name = "content_versions")
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContentVersion {
+
+    @Id
+    @Column(name = "chapter_id")
+    private String chapterId; // 예: "chapter1"
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash; // SHA-256 (hex)
+
+    @Column(name = "loaded_at")
+    private LocalDateTime loadedAt;
+}
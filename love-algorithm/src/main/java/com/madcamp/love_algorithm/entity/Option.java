@@ -6,7 +6,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "game_option") // 'Option'은 SQL 예약어라 테이블명을 바꿔야 안전합니다.
+@Table(name = "game_option", // 'Option'은 SQL 예약어라 테이블명을 바꿔야 안전합니다.
+        uniqueConstraints = @UniqueConstraint(columnNames = {"scene_id", "option_index"}))
 @Getter @Setter @Builder
 @NoArgsConstructor @AllArgsConstructor
 public class Option {
@@ -20,6 +21,10 @@ public class Option {
     @JoinColumn(name = "scene_id")
     private Scene scene;
 
+    // 장면 안에서 몇 번째 선택지인지 (시나리오 재적재 때 (scene_id, option_index)로 upsert 해서 id를 유지합니다)
+    @Column(name = "option_index")
+    private Integer optionIndex;
+
     private String text; // 버튼 텍스트 (예: "솔의 눈을 건넨다")
 
     @Column(name = "next_scene_id")
@@ -0,0 +1,37 @@
+package com.madcamp.love_algorithm.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 리프레시 토큰 (원문은 저장하지 않고 SHA-256 해시만 저장)
+// 재발급할 때마다 기존 토큰은 revoked_at을 찍고 새 토큰으로 교체(rotation)합니다.
+// 이미 교체된 토큰이 다시 들어오면 탈취로 보고 해당 계정의 토큰을 모두 폐기합니다.
+@Entity
+@Table(name = "refresh_tokens",
+        indexes = @Index(name = "idx_refresh_tokens_account", columnList = "account_id"))
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
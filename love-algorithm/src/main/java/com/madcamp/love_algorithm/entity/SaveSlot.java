@@ -6,7 +6,10 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "save_slots") // DB 테이블 이름
+// (user_id, slot_number) 유니크 인덱스: 유저당 슬롯 번호 하나에 세이브 하나, 목록 조회도 이 인덱스 범위 스캔
+@Table(name = "save_slots", // DB 테이블 이름
+        uniqueConstraints = @UniqueConstraint(name = "uk_save_slots_user_slot", columnNames = {"user_id", "slot_number"}),
+        indexes = @Index(name = "idx_save_slots_deleted_at", columnList = "deleted_at")) // 소프트 삭제 정리 작업용
 @Getter @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,10 +23,20 @@ public class SaveSlot { // 이름 뒤에 Dto를 떼주세요!
     @JoinColumn(name = "user_id")
     private User user; // 누구의 세이브인가
 
+    @Column(name = "slot_number")
     private int slotNumber; // 1번, 2번, 3번 슬롯
     private String sceneId; // 저장된 장면 ID
     private String previewText; // 목록에서 보여줄 미리보기 텍스트
 
+    // 전체 게임 상태 (GameStateCodec 바이너리, 압축), 예전 세이브는 null
+    @Column(name = "game_state", columnDefinition = "MEDIUMBLOB")
+    private byte[] gameState;
+
     @CreationTimestamp
     private LocalDateTime savedAt;
+
+    // 소프트 삭제 시각 (game.save.soft-delete.enabled=true 일 때만 사용, null이면 살아 있는 슬롯)
+    // SaveSlotPurgeJob이 보관 기간이 지난 행을 배치로 지웁니다.
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
 }
\ No newline at end of file
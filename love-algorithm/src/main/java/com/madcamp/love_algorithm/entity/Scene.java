@@ -32,6 +32,9 @@ public class Scene {
     @Column(name = "default_next_scene_id")
     private String defaultNextSceneId; // 선택지 없이 쭉 이어질 때 다음 장면 ID
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash; // 마지막으로 적재한 장면 콘텐츠 해시 (InitialLoader가 바뀐 장면만 찾을 때 사용)
+
     @OneToMany(mappedBy = "scene", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @OrderBy("scriptIndex ASC") // 순서대로 정렬
     private List<Script> dialogues = new ArrayList<>();
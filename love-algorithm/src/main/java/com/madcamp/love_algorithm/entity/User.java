@@ -33,6 +33,14 @@ public class User {
     @Column(name = "current_scene_id")
     private String currentSceneId;
 
+    // 현재 씬 안에서 몇 번째 대사까지 봤는지
+    @Column(name = "current_dialogue_index")
+    private Integer currentDialogueIndex;
+
+    // 방문한 scene ID 목록 (JSON 배열 문자열, POST /api/users/progress 로 갱신)
+    @Column(name = "visited_scenes", columnDefinition = "TEXT")
+    private String visitedScenes;
+
     // *중요: 호감도(loveDohee 등) 필드는 삭제했습니다.*
     // 이유: 방금 만든 UserAffinity 테이블에서 관리하기 때문입니다.
 
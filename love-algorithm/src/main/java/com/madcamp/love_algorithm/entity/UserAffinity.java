@@ -4,6 +4,9 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@Table(name = "user_affinity",
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_affinity_user_target",
+                columnNames = {"user_id", "target_character_id"})) // 유저당 캐릭터별 1행 (upsert 기준 키)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,12 +23,11 @@ public class UserAffinity {
     private User user;
 
     // 대상 캐릭터 (예: "dohee", "jisoo")
+    @Column(name = "target_character_id")
     private String targetCharacterId;
 
     // 현재 호감도 점수
+    // 증감은 엔티티에서 읽고-더하고-저장하지 않고 UserAffinityJdbcRepository의 원자적 upsert로만 합니다.
+    // (동시 선택 시 갱신 유실 방지)
     private int score;
-
-    public void addScore(int value) {
-        this.score += value;
-    }
 }
\ No newline at end of file
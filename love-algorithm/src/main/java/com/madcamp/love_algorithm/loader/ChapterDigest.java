@@ -0,0 +1,78 @@
+package com.madcamp.love_algorithm.loader;
+
+import com.madcamp.love_algorithm.entity.Option;
+import com.madcamp.love_algorithm.entity.OptionScore;
+import com.madcamp.love_algorithm.entity.Scene;
+import com.madcamp.love_algorithm.entity.Script;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+// 시나리오 콘텐츠 해시 계산
+// 장면 해시는 적재할 때 scenes.content_hash에 같이 저장해 두고, 다음 적재 때 파일에서 읽은 장면의 해시와 비교합니다.
+final class ChapterDigest {
+
+    private static final char FIELD = '\u0001';
+    private static final char RECORD = '\u0002';
+    private static final String NULL = "\u0000";
+
+    private ChapterDigest() {
+    }
+
+    // 장면 해시 (장면 필드 + 대사 + 선택지/점수)
+    static String sceneHash(SceneData data) {
+        Scene scene = data.scene();
+        StringBuilder sb = new StringBuilder();
+        append(sb, scene.getId(), scene.getChapterId(), scene.getEventSeq(), scene.getTitle(),
+                scene.getDefaultNextSceneId());
+
+        List<Script> scripts = new ArrayList<>(data.scripts());
+        scripts.sort(Comparator.comparingInt(Script::getScriptIndex));
+        for (Script script : scripts) {
+            append(sb, script.getId(), script.getScriptIndex(), script.getType(), script.getSpeakerId(),
+                    script.getContent(), script.getBackgroundImgId(), script.getBackgroundSoundId(),
+                    script.getCharacterImgId(), script.getEffectSoundId(), script.getOverlayImageId());
+        }
+
+        // 선택지는 파일 순서(option_index) 그대로 넣습니다. 순서가 바뀌면 id 매핑도 바뀌므로 변경으로 봅니다.
+        for (Option option : data.options()) {
+            append(sb, option.getOptionIndex(), option.getText(), option.getNextSceneId());
+            option.getOptionScores().stream()
+                    .sorted(Comparator.comparing(OptionScore::getTargetCharacterId)
+                            .thenComparingInt(OptionScore::getScore))
+                    .forEach(score -> append(sb, score.getTargetCharacterId(), score.getScore()));
+        }
+
+        return HexFormat.of().formatHex(newDigest().digest(sb.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // 챕터 해시 = 시나리오 파일 바이트의 해시 (파일을 한 번 흘려 읽기만 함)
+    static String fileHash(InputStream in) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void append(StringBuilder sb, Object... fields) {
+        for (Object field : fields) {
+            sb.append(field == null ? NULL : field.toString()).append(FIELD);
+        }
+        sb.append(RECORD);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
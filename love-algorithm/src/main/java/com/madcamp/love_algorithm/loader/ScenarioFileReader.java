@@ -0,0 +1,142 @@
+package com.madcamp.love_algorithm.loader;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.madcamp.love_algorithm.entity.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// 시나리오 파일(JSON Lines) 스트리밍 파서
+// 한 줄에 JSON 하나씩, 프론트 GameEvent / ScenarioItem 모양을 그대로 따릅니다.
+//
+//   {"id":"chapter1_scene1","chapter_id":"chapter1","event":1,"title":"합격 통보","next_scene_id":"chapter1_scene2"}  <- 장면 (GameEvent)
+//   {"index":0,"type":"전환","script":"week1: init()","character_image_id":{"all":"nobody"}}                           <- 대사 (ScenarioItem)
+//   {"index":1,"type":"text","character_id":"jisoo","script":"...","options":[{"text":"...","next_scene_id":"...",
+//                                                              "score_list":[{"character_id":"jisoo","score":5}]}]}
+//
+// 장면 한 개가 끝날 때마다 sink로 넘기므로 챕터 전체를 메모리에 올리지 않습니다.
+@Component
+@RequiredArgsConstructor
+public class ScenarioFileReader {
+
+    // 프론트 ScenarioType -> ScriptType
+    private static final Map<String, ScriptType> TYPES = Map.of(
+            "text", ScriptType.TEXT,
+            "think", ScriptType.THINK,
+            "narration", ScriptType.NARRATION,
+            "카톡", ScriptType.KAKAO,
+            "input", ScriptType.INPUT,
+            "전환", ScriptType.전환,
+            "시스템", ScriptType.시스템,
+            "game", ScriptType.GAME);
+
+    private final ObjectMapper objectMapper;
+
+    public void read(InputStream in, Consumer<SceneData> sink) throws IOException {
+        Scene scene = null;
+        List<Script> scripts = new ArrayList<>();
+        List<Option> options = new ArrayList<>();
+
+        try (MappingIterator<JsonNode> lines = objectMapper.readerFor(JsonNode.class).readValues(in)) {
+            while (lines.hasNextValue()) {
+                JsonNode line = lines.nextValue();
+
+                // 1. 장면 줄: 앞 장면을 넘기고 새 장면 시작
+                if (line.has("chapter_id")) {
+                    if (scene != null) {
+                        sink.accept(new SceneData(scene, scripts, options));
+                    }
+                    scene = toScene(line);
+                    scripts = new ArrayList<>();
+                    options = new ArrayList<>();
+                    continue;
+                }
+
+                // 2. 대사 줄
+                if (scene == null) {
+                    throw new IllegalStateException("장면 줄보다 대사 줄이 먼저 나왔습니다: " + line);
+                }
+                scripts.add(toScript(scene, line));
+                for (JsonNode option : line.path("options")) {
+                    options.add(toOption(scene, option, options.size()));
+                }
+            }
+        }
+
+        if (scene != null) {
+            sink.accept(new SceneData(scene, scripts, options));
+        }
+    }
+
+    // ==========================================
+    // Helper Methods
+    // ==========================================
+
+    private Scene toScene(JsonNode node) {
+        return Scene.builder()
+                .id(node.get("id").asText())
+                .chapterId(text(node, "chapter_id"))
+                .eventSeq(node.path("event").asInt())
+                .title(text(node, "title"))
+                .defaultNextSceneId(text(node, "next_scene_id"))
+                .build();
+    }
+
+    private Script toScript(Scene scene, JsonNode node) {
+        int index = node.get("index").asInt();
+        String type = node.path("type").asText("text");
+        ScriptType scriptType = TYPES.get(type);
+        if (scriptType == null) {
+            throw new IllegalStateException("알 수 없는 대사 타입: " + type);
+        }
+
+        // 캐릭터 이미지는 {"2":"jisoo_smile.png"} 같은 객체로 쓰고, DB에는 기존처럼 JSON 문자열로 저장합니다.
+        JsonNode characterImage = node.get("character_image_id");
+        String characterImgId = characterImage == null || characterImage.isNull() ? null
+                : characterImage.isTextual() ? characterImage.asText() : characterImage.toString();
+
+        Script script = new Script();
+        script.setId(node.has("id") ? node.get("id").asText() : String.format("%s_%03d", scene.getId(), index));
+        script.setScene(scene);
+        script.setScriptIndex(index);
+        script.setType(scriptType);
+        script.setSpeakerId(text(node, "character_id"));
+        script.setContent(text(node, "script"));
+        script.setBackgroundImgId(text(node, "background_image_id"));
+        script.setCharacterImgId(characterImgId);
+        script.setBackgroundSoundId(text(node, "background_sound_id"));
+        script.setEffectSoundId(text(node, "effect_sound_id"));
+        script.setOverlayImageId(text(node, "overlay_image_id"));
+        return script;
+    }
+
+    private Option toOption(Scene scene, JsonNode node, int optionIndex) {
+        Option option = Option.builder()
+                .scene(scene)
+                .optionIndex(optionIndex)
+                .text(text(node, "text"))
+                .nextSceneId(text(node, "next_scene_id"))
+                .build();
+        for (JsonNode score : node.path("score_list")) {
+            option.getOptionScores().add(OptionScore.builder()
+                    .option(option)
+                    .targetCharacterId(text(score, "character_id"))
+                    .score(score.path("score").asInt())
+                    .build());
+        }
+        return option;
+    }
+
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+}
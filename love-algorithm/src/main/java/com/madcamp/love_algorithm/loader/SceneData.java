@@ -0,0 +1,11 @@
+package com.madcamp.love_algorithm.loader;
+
+import com.madcamp.love_algorithm.entity.Option;
+import com.madcamp.love_algorithm.entity.Scene;
+import com.madcamp.love_algorithm.entity.Script;
+
+import java.util.List;
+
+// 장면 하나 분량의 시나리오 데이터 (시나리오 파일은 장면 단위로 읽어서 DB에 반영합니다)
+record SceneData(Scene scene, List<Script> scripts, List<Option> options) {
+}
@@ -0,0 +1,63 @@
+package com.madcamp.love_algorithm.metrics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Set;
+
+// 커넥션에서 문장을 만들 때마다 SqlStatementCounter를 올리는 DataSource
+// JPA와 JdbcTemplate이 같은 DataSource를 쓰므로 둘 다 셉니다.
+// DelegatingDataSource라서 Hikari 메트릭은 안쪽 풀을 그대로 찾아갑니다.
+public class CountingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "prepareCall", "createStatement");
+
+    public CountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    // 감싼 빈이 종료될 때 안쪽 커넥션 풀도 닫히도록 (destroy 메서드 추론은 감싼 쪽 클래스를 봄)
+    @Override
+    public void close() throws Exception {
+        if (obtainTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static Connection wrap(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                CountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        default:
+                            if (STATEMENT_METHODS.contains(method.getName())) {
+                                SqlStatementCounter.increment();
+                            }
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
@@ -0,0 +1,87 @@
+package com.madcamp.love_algorithm.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// MySQL InnoDB 행 잠금 대기 (SHOW GLOBAL STATUS)
+// - mysql.innodb.row.lock.waits: 누적 대기 횟수
+// - mysql.innodb.row.lock.time: 누적 대기 시간(ms)
+// - mysql.innodb.row.lock.current.waits: 지금 대기 중인 수
+// 스크레이프마다 메트릭 수만큼 조회하지 않도록 1초 동안은 마지막 값을 씁니다.
+// MySQL인지는 등록할 때 DatabaseMetaData로 한 번만 확인하고, 아니면(테스트용 H2 등) 메트릭을 등록하지 않습니다.
+// 조회가 일시적으로 실패하면 그 1초 동안만 NaN을 반환하고 다음 주기에 다시 조회합니다.
+@Component
+@RequiredArgsConstructor
+public class InnoDbLockMetrics implements MeterBinder {
+
+    private static final long CACHE_NANOS = 1_000_000_000L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Map<String, Double> lastStatus = Map.of();
+    private volatile long lastReadAt;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!isMySql()) {
+            return;
+        }
+        FunctionCounter.builder("mysql.innodb.row.lock.waits", this, m -> m.status("Innodb_row_lock_waits"))
+                .description("InnoDB 행 잠금을 기다린 누적 횟수")
+                .register(registry);
+        FunctionCounter.builder("mysql.innodb.row.lock.time", this, m -> m.status("Innodb_row_lock_time"))
+                .description("InnoDB 행 잠금을 기다린 누적 시간")
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("mysql.innodb.row.lock.current.waits", this, m -> m.status("Innodb_row_lock_current_waits"))
+                .description("지금 InnoDB 행 잠금을 기다리는 수")
+                .register(registry);
+    }
+
+    // MySQL/MariaDB만 SHOW GLOBAL STATUS를 지원합니다. (부팅 때 DB에 못 붙으면 일단 등록하고 조회 때 NaN)
+    private boolean isMySql() {
+        try {
+            String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            if (product != null && (product.contains("MySQL") || product.contains("MariaDB"))) {
+                return true;
+            }
+            System.out.println(">>> InnoDB 잠금 메트릭 등록 안 함 (MySQL이 아님): " + product);
+            return false;
+        } catch (DataAccessException e) {
+            System.out.println(">>> DB 종류 확인 실패, InnoDB 잠금 메트릭은 등록합니다: " + e.getMessage());
+            return true;
+        }
+    }
+
+    private double status(String name) {
+        long now = System.nanoTime();
+        if (now - lastReadAt >= CACHE_NANOS) {
+            try {
+                Map<String, Double> status = new HashMap<>();
+                jdbcTemplate.query("SHOW GLOBAL STATUS LIKE 'Innodb_row_lock%'",
+                        (RowCallbackHandler) rs -> status.put(rs.getString(1), rs.getDouble(2)));
+                lastStatus = status;
+                lastReadAt = now;
+            } catch (DataAccessException e) {
+                // 일시적인 실패는 기록만 하고 1초 뒤에 다시 시도
+                System.out.println(">>> InnoDB 잠금 메트릭 조회 실패: " + e.getMessage());
+                lastStatus = Map.of();
+                lastReadAt = now;
+                return Double.NaN;
+            }
+        }
+        return lastStatus.getOrDefault(name, Double.NaN);
+    }
+}
@@ -0,0 +1,40 @@
+package com.madcamp.love_algorithm.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+// API 요청마다 실행된 SQL 문장 수를 http.server.requests.sql 로 기록 (method, uri 태그)
+// uri는 http.server.requests 와 같은 패턴(/api/game/script/scene/{sceneId})이라 두 메트릭을 나란히 볼 수 있습니다.
+@Component
+@RequiredArgsConstructor
+public class SqlMetricsInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        int count = SqlStatementCounter.stop();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+        DistributionSummary.builder("http.server.requests.sql")
+                .description("요청 하나가 실행한 SQL 문장 수")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", pattern != null ? pattern.toString() : "UNKNOWN")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(count);
+    }
+}
@@ -0,0 +1,36 @@
+package com.madcamp.love_algorithm.metrics;
+
+// 요청 하나가 실행한 SQL 문장 수 (요청 스레드 기준)
+// start()와 stop() 사이에 이 스레드에서 준비(prepare)된 문장만 셉니다.
+// - 배치 insert/update는 문장 하나로 셈 (rewriteBatchedStatements로 한 번에 전송되므로)
+// - 스케줄러/flush 스레드는 start() 하지 않으므로 세지 않음
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    // 센 값을 돌려주고 정리 (start() 없이 부르면 0)
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    public static int current() {
+        int[] count = COUNT.get();
+        return count != null ? count[0] : 0;
+    }
+
+    static void increment() {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
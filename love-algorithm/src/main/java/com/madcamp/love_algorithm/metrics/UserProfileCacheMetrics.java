@@ -0,0 +1,45 @@
+package com.madcamp.love_algorithm.metrics;
+
+import com.madcamp.love_algorithm.service.UserProfileCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 유저 프로필 캐시 (Micrometer 캐시 메트릭 이름을 따름, cache=userProfile 태그)
+// - cache.gets{result=hit|miss}: 누적 조회 수
+// - cache.evictions: 누적 제거 수
+// - cache.size: 지금 들고 있는 항목 수
+// 적중률은 대시보드에서 hit / (hit + miss)로 계산합니다.
+@Component
+@RequiredArgsConstructor
+public class UserProfileCacheMetrics implements MeterBinder {
+
+    private static final String CACHE_NAME = "userProfile";
+
+    private final UserProfileCache userProfileCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", userProfileCache, c -> c.stats().hits())
+                .tag("cache", CACHE_NAME)
+                .tag("result", "hit")
+                .description("캐시에서 찾은 조회 수")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", userProfileCache, c -> c.stats().misses())
+                .tag("cache", CACHE_NAME)
+                .tag("result", "miss")
+                .description("DB에서 다시 읽은 조회 수")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", userProfileCache, c -> c.stats().evictions())
+                .tag("cache", CACHE_NAME)
+                .description("만료/개수 초과로 지운 항목 수")
+                .register(registry);
+        Gauge.builder("cache.size", userProfileCache, c -> c.stats().size())
+                .tag("cache", CACHE_NAME)
+                .description("캐시에 들고 있는 항목 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,59 @@
+package com.madcamp.love_algorithm.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 자동 저장 쓰기/복구 전용 저장소
+// (user_id, ring_index) 유니크 키 기준 배치 upsert라 테이블 크기는 유저 수 x ring-size 를 넘지 않습니다.
+@Repository
+@RequiredArgsConstructor
+public class AutosaveJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO autosaves (user_id, ring_index, seq, scene_id, preview_text, game_state, saved_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE seq = VALUES(seq), scene_id = VALUES(scene_id), " +
+            "preview_text = VALUES(preview_text), game_state = VALUES(game_state), saved_at = VALUES(saved_at)";
+
+    private static final String SELECT_BY_USER_SQL =
+            "SELECT ring_index, seq, scene_id, preview_text, game_state, saved_at FROM autosaves WHERE user_id = ? ORDER BY seq";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Row(Long userId, int ringIndex, long seq, String sceneId, String previewText, byte[] gameState,
+                      LocalDateTime savedAt) {
+    }
+
+    public void upsertAll(List<Row> rows) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setLong(1, row.userId());
+            ps.setInt(2, row.ringIndex());
+            ps.setLong(3, row.seq());
+            ps.setString(4, row.sceneId());
+            ps.setString(5, row.previewText());
+            ps.setBytes(6, row.gameState());
+            ps.setTimestamp(7, Timestamp.valueOf(row.savedAt()));
+        });
+    }
+
+    // 서버 재시작 후 처음 접근할 때 메모리 링을 복구하는 용도 (seq 오름차순)
+    public List<Row> findByUser(Long userId) {
+        return jdbcTemplate.query(SELECT_BY_USER_SQL,
+                (rs, rowNum) -> new Row(
+                        userId,
+                        rs.getInt("ring_index"),
+                        rs.getLong("seq"),
+                        rs.getString("scene_id"),
+                        rs.getString("preview_text"),
+                        rs.getBytes("game_state"),
+                        rs.getTimestamp("saved_at").toLocalDateTime()),
+                userId);
+    }
+}
@@ -0,0 +1,9 @@
+package com.madcamp.love_algorithm.repository;
+
+import com.madcamp.love_algorithm.entity.ContentVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ContentVersionRepository extends JpaRepository<ContentVersion, String> {
+}
@@ -3,6 +3,7 @@ package com.madcamp.love_algorithm.repository;
 import com.madcamp.love_algorithm.entity.Option;
 import com.madcamp.love_algorithm.entity.Scene;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
@@ -10,4 +11,8 @@ import java.util.List;
 public interface OptionRepository extends JpaRepository<Option, Long> {
     // 특정 장면에 속한 선택지들을 가져오는 메소드
     List<Option> findByScene(Scene scene);
-}
\ No newline at end of file
+
+    // 전체 선택지를 점수(OptionScore)까지 한 번에 가져오기 (N+1 방지)
+    @Query("select distinct o from Option o left join fetch o.optionScores order by o.optionIndex, o.id")
+    List<Option> findAllWithScores();
+}
@@ -0,0 +1,31 @@
+package com.madcamp.love_algorithm.repository;
+
+import com.madcamp.love_algorithm.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // 아직 살아 있을 때만 폐기 (동시에 같은 토큰으로 재발급하면 한쪽만 1을 받음)
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.id = :id and t.revokedAt is null")
+    int revokeIfActive(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // 계정의 살아 있는 토큰 전부 폐기 (로그아웃, 재사용 감지)
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.accountId = :accountId and t.revokedAt is null")
+    int revokeAll(@Param("accountId") Long accountId, @Param("now") LocalDateTime now);
+
+    // 만료된 토큰 정리
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
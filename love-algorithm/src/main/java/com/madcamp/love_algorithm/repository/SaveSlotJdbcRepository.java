@@ -0,0 +1,59 @@
+package com.madcamp.love_algorithm.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+// 세이브 쓰기 전용 저장소
+// uk_save_slots_user_slot (user_id, slot_number) 유니크 키 기준 upsert 한 문장으로 저장합니다.
+// 유저는 user_id 값으로만 참조하므로 users 행을 읽지 않고, 없는 유저는 FK 제약에서 걸러집니다.
+@Repository
+@RequiredArgsConstructor
+public class SaveSlotJdbcRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO save_slots (user_id, slot_number, scene_id, preview_text, game_state, saved_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE scene_id = VALUES(scene_id), preview_text = VALUES(preview_text), " +
+            "game_state = VALUES(game_state), saved_at = VALUES(saved_at), deleted_at = NULL"; // 소프트 삭제된 슬롯에 다시 저장하면 되살림
+
+    private static final String DELETE_SLOT_SQL = "DELETE FROM save_slots WHERE user_id = ? AND slot_number = ?";
+    private static final String DELETE_ALL_SQL = "DELETE FROM save_slots WHERE user_id = ?";
+    private static final String SOFT_DELETE_SLOT_SQL =
+            "UPDATE save_slots SET deleted_at = ? WHERE user_id = ? AND slot_number = ? AND deleted_at IS NULL";
+    private static final String SOFT_DELETE_ALL_SQL =
+            "UPDATE save_slots SET deleted_at = ? WHERE user_id = ? AND deleted_at IS NULL";
+    private static final String PURGE_SQL = "DELETE FROM save_slots WHERE deleted_at < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void upsert(Long userId, int slotNumber, String sceneId, String previewText, byte[] gameState,
+                       LocalDateTime savedAt) {
+        jdbcTemplate.update(UPSERT_SQL, userId, slotNumber, sceneId, previewText, gameState, Timestamp.valueOf(savedAt));
+    }
+
+    // 키로 바로 삭제 (조회 후 삭제 안 함), 지운 행 수 반환
+    public int delete(Long userId, int slotNumber) {
+        return jdbcTemplate.update(DELETE_SLOT_SQL, userId, slotNumber);
+    }
+
+    public int deleteAll(Long userId) {
+        return jdbcTemplate.update(DELETE_ALL_SQL, userId);
+    }
+
+    public int softDelete(Long userId, int slotNumber, LocalDateTime deletedAt) {
+        return jdbcTemplate.update(SOFT_DELETE_SLOT_SQL, Timestamp.valueOf(deletedAt), userId, slotNumber);
+    }
+
+    public int softDeleteAll(Long userId, LocalDateTime deletedAt) {
+        return jdbcTemplate.update(SOFT_DELETE_ALL_SQL, Timestamp.valueOf(deletedAt), userId);
+    }
+
+    // 소프트 삭제된 지 오래된 행을 최대 limit개 삭제 (한 번에 큰 DELETE로 잠금을 오래 잡지 않도록 나눠서)
+    public int purgeDeletedBefore(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.valueOf(cutoff), limit);
+    }
+}
@@ -1,7 +1,10 @@
 package com.madcamp.love_algorithm.repository;
 
+import com.madcamp.love_algorithm.dto.SaveSlotSummary;
 import com.madcamp.love_algorithm.entity.SaveSlot;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,8 +12,10 @@ import java.util.Optional;
 
 @Repository // 스프링이 이 저장소를 인식하게 합니다.
 public interface SaveSlotRepository extends JpaRepository<SaveSlot, Long> {
-    // 유저 ID로 세이브 슬롯을 번호 순서대로 가져오는 규칙입니다.
-    List<SaveSlot> findByUserIdOrderBySlotNumberAsc(Long userId);
+    // 목록 화면용: 엔티티/User 프록시 없이 필요한 컬럼만 (uk_save_slots_user_slot 인덱스 범위 스캔)
+    @Query("select new com.madcamp.love_algorithm.dto.SaveSlotSummary(s.slotNumber, s.sceneId, s.previewText, s.savedAt) " +
+           "from SaveSlot s where s.user.id = :userId and s.deletedAt is null order by s.slotNumber")
+    List<SaveSlotSummary> findSummariesByUserId(@Param("userId") Long userId);
 
-    Optional<SaveSlot> findByUserIdAndSlotNumber(Long userId, int slotNumber);
+    Optional<SaveSlot> findByUserIdAndSlotNumberAndDeletedAtIsNull(Long userId, int slotNumber);
 }
\ No newline at end of file
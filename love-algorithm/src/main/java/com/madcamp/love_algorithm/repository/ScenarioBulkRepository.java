@@ -0,0 +1,186 @@
+package com.madcamp.love_algorithm.repository;
+
+import com.madcamp.love_algorithm.entity.Option;
+import com.madcamp.love_algorithm.entity.OptionScore;
+import com.madcamp.love_algorithm.entity.Scene;
+import com.madcamp.love_algorithm.entity.Script;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 시나리오 적재 전용 저장소 (InitialLoader에서 사용)
+// Scene/Script는 ID를 직접 넣는 엔티티라 saveAll 시 행마다 merge(SELECT)가 일어나므로
+// JPA를 거치지 않고 JDBC 배치로 읽고/넣고/지웁니다.
+// 바뀐 장면은 InitialLoader가 모아서 넘기므로 장면 수와 상관없이 배치 단위로 왕복합니다.
+@Repository
+@RequiredArgsConstructor
+public class ScenarioBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SCENE_SQL =
+            "INSERT INTO scenes (scene_id, chapter_id, event_seq, title, default_next_scene_id, content_hash) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE chapter_id = VALUES(chapter_id), event_seq = VALUES(event_seq), " +
+            "title = VALUES(title), default_next_scene_id = VALUES(default_next_scene_id), " +
+            "content_hash = VALUES(content_hash)";
+
+    private static final String INSERT_SCRIPT_SQL =
+            "INSERT INTO scripts (script_id, scene_id, script_index, type, speaker_id, content, " +
+            "background_img_id, background_sound_id, character_img_id, effect_sound_id, overlay_image_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // 선택지는 (scene_id, option_index) 기준으로 갱신해서 클라이언트가 들고 있는 optionId가 재적재 후에도 그대로 유지됩니다.
+    private static final String UPSERT_OPTION_SQL =
+            "INSERT INTO game_option (scene_id, option_index, text, next_scene_id) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE text = VALUES(text), next_scene_id = VALUES(next_scene_id)";
+
+    // 파일에서 줄어든 선택지 (option_index가 없는 행은 인덱스 도입 전에 적재된 행)
+    private static final String DELETE_TRAILING_OPTIONS_SQL =
+            "DELETE FROM game_option WHERE scene_id = ? AND (option_index IS NULL OR option_index >= ?)";
+
+    private static final String INSERT_OPTION_SCORE_SQL =
+            "INSERT INTO option_score (option_id, target_character_id, score) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // ==========================================
+    // 조회 (변경 비교용)
+    // ==========================================
+
+    // 챕터의 장면 ID -> 마지막으로 적재한 콘텐츠 해시 (쿼리 한 번)
+    public Map<String, String> findSceneHashesByChapter(String chapterId) {
+        Map<String, String> hashes = new HashMap<>();
+        jdbcTemplate.query("SELECT scene_id, content_hash FROM scenes WHERE chapter_id = ?",
+                rs -> {
+                    hashes.put(rs.getString("scene_id"), rs.getString("content_hash"));
+                },
+                chapterId);
+        return hashes;
+    }
+
+    // ==========================================
+    // 쓰기
+    // ==========================================
+
+    // 1. 장면 삭제 (대사/선택지/점수 포함, FK 순서대로)
+    public void deleteScenes(List<String> sceneIds) {
+        deleteSceneChildren(sceneIds);
+        batchById("DELETE FROM scenes WHERE scene_id = ?", sceneIds);
+    }
+
+    // 장면은 남기고 딸린 대사/선택지/점수만 삭제
+    public void deleteSceneChildren(List<String> sceneIds) {
+        deleteOptionScores(sceneIds);
+        batchById("DELETE FROM game_option WHERE scene_id = ?", sceneIds);
+        deleteScripts(sceneIds);
+    }
+
+    public void deleteScripts(List<String> sceneIds) {
+        batchById("DELETE FROM scripts WHERE scene_id = ?", sceneIds);
+    }
+
+    // 2. 장면 (있으면 갱신, content_hash 포함)
+    public void upsertScenes(List<Scene> scenes) {
+        jdbcTemplate.batchUpdate(UPSERT_SCENE_SQL, scenes, BATCH_SIZE, (ps, scene) -> {
+            ps.setString(1, scene.getId());
+            ps.setString(2, scene.getChapterId());
+            ps.setInt(3, scene.getEventSeq());
+            ps.setString(4, scene.getTitle());
+            ps.setString(5, scene.getDefaultNextSceneId());
+            ps.setString(6, scene.getContentHash());
+        });
+    }
+
+    // 3. 대사 (deleteScripts 후에 넣습니다)
+    public void insertScripts(List<Script> scripts) {
+        jdbcTemplate.batchUpdate(INSERT_SCRIPT_SQL, scripts, BATCH_SIZE, (ps, script) -> {
+            ps.setString(1, script.getId());
+            ps.setString(2, script.getScene().getId());
+            ps.setInt(3, script.getScriptIndex());
+            ps.setString(4, script.getType() != null ? script.getType().name() : null);
+            ps.setString(5, script.getSpeakerId());
+            ps.setString(6, script.getContent());
+            ps.setString(7, script.getBackgroundImgId());
+            ps.setString(8, script.getBackgroundSoundId());
+            ps.setString(9, script.getCharacterImgId());
+            ps.setString(10, script.getEffectSoundId());
+            ps.setString(11, script.getOverlayImageId());
+        });
+    }
+
+    // 4. 선택지 + 점수 (sceneIds = 이번에 다시 쓰는 장면 전체, options = 그 장면들의 새 선택지)
+    // 선택지 행은 지우지 않고 (scene_id, option_index)로 upsert 하므로 id가 유지됩니다. 점수만 지우고 다시 넣습니다.
+    public void upsertOptions(List<String> sceneIds, List<Option> options) {
+        // (1) 기존 점수 삭제
+        deleteOptionScores(sceneIds);
+
+        // (2) 선택지 upsert
+        jdbcTemplate.batchUpdate(UPSERT_OPTION_SQL, options, BATCH_SIZE, (ps, option) -> {
+            ps.setString(1, option.getScene().getId());
+            ps.setInt(2, option.getOptionIndex());
+            ps.setString(3, option.getText());
+            ps.setString(4, option.getNextSceneId());
+        });
+
+        // (3) 선택지 수가 줄어든 만큼 뒤쪽 행 삭제
+        Map<String, Integer> counts = new HashMap<>();
+        sceneIds.forEach(sceneId -> counts.put(sceneId, 0));
+        options.forEach(option -> counts.merge(option.getScene().getId(), 1, Integer::sum));
+        jdbcTemplate.batchUpdate(DELETE_TRAILING_OPTIONS_SQL, new ArrayList<>(counts.entrySet()), BATCH_SIZE,
+                (ps, count) -> {
+                    ps.setString(1, count.getKey());
+                    ps.setInt(2, count.getValue());
+                });
+
+        // (4) 선택지 id를 한 번에 조회해서 점수 배치 insert
+        Map<String, Long> ids = findOptionIds(sceneIds);
+        List<OptionScore> scores = new ArrayList<>();
+        for (Option option : options) {
+            option.setId(ids.get(optionKey(option.getScene().getId(), option.getOptionIndex())));
+            for (OptionScore score : option.getOptionScores()) {
+                score.setOption(option);
+                scores.add(score);
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_OPTION_SCORE_SQL, scores, BATCH_SIZE, (ps, score) -> {
+            ps.setLong(1, score.getOption().getId());
+            ps.setString(2, score.getTargetCharacterId());
+            ps.setInt(3, score.getScore());
+        });
+    }
+
+    // "scene_id#option_index" -> id (IN 절을 BATCH_SIZE씩 끊어서 조회)
+    private Map<String, Long> findOptionIds(List<String> sceneIds) {
+        Map<String, Long> ids = new HashMap<>();
+        for (int from = 0; from < sceneIds.size(); from += BATCH_SIZE) {
+            List<String> chunk = sceneIds.subList(from, Math.min(from + BATCH_SIZE, sceneIds.size()));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query(
+                    "SELECT id, scene_id, option_index FROM game_option WHERE scene_id IN (" + placeholders + ")",
+                    rs -> {
+                        ids.put(optionKey(rs.getString("scene_id"), rs.getInt("option_index")), rs.getLong("id"));
+                    },
+                    chunk.toArray());
+        }
+        return ids;
+    }
+
+    private void deleteOptionScores(List<String> sceneIds) {
+        batchById("DELETE FROM option_score WHERE option_id IN (SELECT id FROM game_option WHERE scene_id = ?)", sceneIds);
+    }
+
+    private static String optionKey(String sceneId, int optionIndex) {
+        return sceneId + "#" + optionIndex;
+    }
+
+    private void batchById(String sql, List<String> ids) {
+        jdbcTemplate.batchUpdate(sql, ids, BATCH_SIZE, (ps, id) -> ps.setString(1, id));
+    }
+}
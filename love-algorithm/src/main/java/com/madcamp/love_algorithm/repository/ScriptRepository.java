@@ -2,6 +2,7 @@ package com.madcamp.love_algorithm.repository;
 
 import com.madcamp.love_algorithm.entity.Script;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
@@ -9,4 +10,8 @@ import java.util.List;
 public interface ScriptRepository extends JpaRepository<Script, String> {
     // 특정 장면(Scene)의 대사들을 순서대로 가져오는 메소드
     List<Script> findBySceneIdOrderByScriptIndex(String sceneId);
-}
\ No newline at end of file
+
+    // 전체 대사를 장면/순서대로 한 번에 가져오기 (ScenarioCache 적재용)
+    @Query("select s from Script s order by s.scene.id, s.scriptIndex")
+    List<Script> findAllOrderBySceneAndIndex();
+}
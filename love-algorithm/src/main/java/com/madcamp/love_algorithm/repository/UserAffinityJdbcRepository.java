@@ -0,0 +1,63 @@
+package com.madcamp.love_algorithm.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 호감도 쓰기 전용 저장소 (JPA 조회 후 save 대신 JDBC 배치 upsert 한 번으로 처리)
+// (user_id, target_character_id) 유니크 키를 기준으로 없으면 INSERT, 있으면 score에 더합니다.
+@Repository
+@RequiredArgsConstructor
+public class UserAffinityJdbcRepository {
+
+    // UPDATE 절에 ? 가 없어야 rewriteBatchedStatements가 배치를 multi-row INSERT 한 문장으로 합쳐 줍니다.
+    private static final String UPSERT_SQL =
+            "INSERT INTO user_affinity (user_id, target_character_id, score) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE score = score + VALUES(score)";
+
+    private static final String SELECT_BY_USER_SQL =
+            "SELECT target_character_id, score FROM user_affinity WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 유저의 전체 캐릭터 호감도 (유니크 키 (user_id, target_character_id) 인덱스 범위 조회 1번)
+    public Map<String, Integer> findScores(Long userId) {
+        Map<String, Integer> scores = new HashMap<>();
+        jdbcTemplate.query(SELECT_BY_USER_SQL,
+                rs -> { scores.put(rs.getString("target_character_id"), rs.getInt("score")); },
+                userId);
+        return scores;
+    }
+
+    // 한 유저의 캐릭터별 점수 변화량을 배치 한 번으로 반영
+    public void addScores(Long userId, Map<String, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        for (Map.Entry<String, Integer> delta : deltas.entrySet()) {
+            batchArgs.add(new Object[]{userId, delta.getKey(), delta.getValue()});
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+    }
+
+    // 여러 유저의 변화량을 배치 한 번으로 반영 (AffinityWriteBuffer flush용)
+    public void addScores(Map<Long, Map<String, Integer>> deltasByUser) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Map.Entry<Long, Map<String, Integer>> user : deltasByUser.entrySet()) {
+            for (Map.Entry<String, Integer> delta : user.getValue().entrySet()) {
+                batchArgs.add(new Object[]{user.getKey(), delta.getKey(), delta.getValue()});
+            }
+        }
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+    }
+}
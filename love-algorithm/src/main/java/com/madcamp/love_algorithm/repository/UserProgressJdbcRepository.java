@@ -0,0 +1,47 @@
+package com.madcamp.love_algorithm.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 진행 상황 쓰기 전용 저장소 (ProgressWriteBuffer에서 모아 둔 값을 UPDATE 배치 한 번으로 반영)
+@Repository
+@RequiredArgsConstructor
+public class UserProgressJdbcRepository {
+
+    private static final String UPDATE_SQL =
+            "UPDATE users SET current_scene_id = ?, current_dialogue_index = ?, visited_scenes = ?, updated_at = ? " +
+            "WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Progress(String currentSceneId, Integer currentDialogueIndex, String visitedScenes,
+                           LocalDateTime updatedAt) {
+    }
+
+    public void updateProgress(Map<Long, Progress> progressByUser) {
+        if (progressByUser.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Progress>> rows = new ArrayList<>(progressByUser.entrySet());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, rows, rows.size(), (ps, row) -> {
+            Progress progress = row.getValue();
+            ps.setString(1, progress.currentSceneId());
+            if (progress.currentDialogueIndex() != null) {
+                ps.setInt(2, progress.currentDialogueIndex());
+            } else {
+                ps.setNull(2, Types.INTEGER);
+            }
+            ps.setString(3, progress.visitedScenes());
+            ps.setTimestamp(4, Timestamp.valueOf(progress.updatedAt()));
+            ps.setLong(5, row.getKey());
+        });
+    }
+}
@@ -1,13 +1,32 @@
 package com.madcamp.love_algorithm.repository;
 
+import com.madcamp.love_algorithm.dto.UserProfile;
 import com.madcamp.love_algorithm.entity.Account;
 import com.madcamp.love_algorithm.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByAccount(Account account);
-}
\ No newline at end of file
+
+    Optional<User> findByAccountId(Long accountId);
+
+    // 프로필 캐시용 (엔티티/연관관계 로딩 없이 필요한 컬럼만)
+    @Query("select new com.madcamp.love_algorithm.dto.UserProfile(u.id, u.name, u.currentSceneId, a.id, a.email) " +
+           "from User u left join u.account a where u.id = :userId")
+    Optional<UserProfile> findProfileById(@Param("userId") Long userId);
+
+    // 진행 위치만 갱신 (SELECT 없이 UPDATE 1번, 반영된 행 수 반환)
+    @Modifying
+    @Query("update User u set u.currentSceneId = :sceneId, u.updatedAt = :updatedAt where u.id = :userId")
+    int updateCurrentSceneId(@Param("userId") Long userId,
+                             @Param("sceneId") String sceneId,
+                             @Param("updatedAt") LocalDateTime updatedAt);
+}
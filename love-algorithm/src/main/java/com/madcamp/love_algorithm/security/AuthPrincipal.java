@@ -0,0 +1,7 @@
+package com.madcamp.love_algorithm.security;
+
+// 검증된 액세스 토큰의 내용 (JwtAuthenticationFilter가 요청 속성에 넣어 둠)
+public record AuthPrincipal(Long accountId, Long userId) {
+
+    public static final String REQUEST_ATTRIBUTE = AuthPrincipal.class.getName();
+}
@@ -0,0 +1,60 @@
+package com.madcamp.love_algorithm.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.madcamp.love_algorithm.dto.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+
+// Authorization: Bearer <token> 검증 필터
+// 서명과 만료만 확인하고 결과(AuthPrincipal)를 요청 속성에 넣습니다. (계정/유저 테이블 조회 없음)
+// 토큰이 없으면 그대로 통과 (LoginUserArgumentResolver가 필요한 곳에서 401 처리),
+// 토큰이 있는데 잘못됐으면 바로 401을 돌려줍니다.
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final JwtTokenService jwtTokenService;
+    private final ObjectMapper objectMapper;
+
+    // 로그인/회원가입/토큰 재발급은 만료된 토큰이 남아 있어도 막지 않습니다.
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return path.equals("/api/auth/login") || path.equals("/api/auth/register") || path.equals("/api/auth/refresh");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.startsWith(BEARER) || "OPTIONS".equals(request.getMethod())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        Optional<AuthPrincipal> principal = jwtTokenService.verify(header.substring(BEARER.length()).trim());
+        if (principal.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding("UTF-8");
+            objectMapper.writeValue(response.getOutputStream(),
+                    new ApiResponse<>(false, null, "토큰이 유효하지 않거나 만료되었습니다."));
+            return;
+        }
+
+        request.setAttribute(AuthPrincipal.REQUEST_ATTRIBUTE, principal.get());
+        chain.doFilter(request, response);
+    }
+}
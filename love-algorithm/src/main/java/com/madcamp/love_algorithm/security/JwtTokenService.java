@@ -0,0 +1,115 @@
+package com.madcamp.love_algorithm.security;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// HS256 JWT 발급/검증 (서명만 확인하므로 DB 조회 없음)
+// claims: sub = accountId, uid = userId(캐릭터가 없으면 생략), iat, exp
+@Component
+public class JwtTokenService {
+
+    private static final String HEADER = base64Url("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec key;
+    private final Duration accessTokenTtl;
+
+    public JwtTokenService(ObjectMapper objectMapper,
+                           @Value("${game.auth.jwt-secret}") String secret,
+                           @Value("${game.auth.access-token-ttl:15m}") Duration accessTokenTtl) {
+        byte[] secretBytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (secretBytes.length < 32) {
+            throw new IllegalStateException("game.auth.jwt-secret 은 32바이트 이상이어야 합니다.");
+        }
+        this.objectMapper = objectMapper;
+        this.key = new SecretKeySpec(secretBytes, "HmacSHA256");
+        this.accessTokenTtl = accessTokenTtl;
+    }
+
+    public Duration getAccessTokenTtl() {
+        return accessTokenTtl;
+    }
+
+    public String issue(Long accountId, Long userId) {
+        long now = Instant.now().getEpochSecond();
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("sub", String.valueOf(accountId));
+        if (userId != null) {
+            claims.put("uid", userId);
+        }
+        claims.put("iat", now);
+        claims.put("exp", now + accessTokenTtl.toSeconds());
+
+        try {
+            String payload = base64Url(objectMapper.writeValueAsBytes(claims));
+            String signingInput = HEADER + "." + payload;
+            return signingInput + "." + base64Url(sign(signingInput));
+        } catch (IOException e) {
+            throw new IllegalStateException("토큰 생성 실패", e);
+        }
+    }
+
+    // 서명/만료가 맞으면 내용, 아니면 빈 값
+    public Optional<AuthPrincipal> verify(String token) {
+        int first = token.indexOf('.');
+        int second = token.indexOf('.', first + 1);
+        if (first < 0 || second < 0 || token.indexOf('.', second + 1) >= 0) {
+            return Optional.empty();
+        }
+        String signingInput = token.substring(0, second);
+        if (!HEADER.equals(token.substring(0, first))) {
+            return Optional.empty(); // alg 바꿔치기 방지: 우리가 발급한 헤더만 허용
+        }
+
+        try {
+            byte[] signature = Base64.getUrlDecoder().decode(token.substring(second + 1));
+            if (!MessageDigest.isEqual(signature, sign(signingInput))) {
+                return Optional.empty();
+            }
+
+            Map<String, Object> claims = objectMapper.readValue(
+                    Base64.getUrlDecoder().decode(token.substring(first + 1, second)),
+                    new TypeReference<Map<String, Object>>() {});
+            long exp = ((Number) claims.get("exp")).longValue();
+            if (Instant.now().getEpochSecond() >= exp) {
+                return Optional.empty();
+            }
+
+            Object uid = claims.get("uid");
+            return Optional.of(new AuthPrincipal(
+                    Long.valueOf((String) claims.get("sub")),
+                    uid != null ? ((Number) uid).longValue() : null));
+        } catch (IllegalArgumentException | IOException | ClassCastException | NullPointerException e) {
+            return Optional.empty(); // 형식이 깨진 토큰
+        }
+    }
+
+    private byte[] sign(String signingInput) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256"); // Mac은 스레드 안전하지 않아서 매번 생성
+            mac.init(key);
+            return mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,16 @@
+package com.madcamp.love_algorithm.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 컨트롤러 파라미터에 붙이면 현재 유저 ID가 들어옵니다. (LoginUserArgumentResolver)
+//   1) 액세스 토큰의 uid
+//   2) 토큰이 없으면 userId 요청 파라미터 (game.auth.allow-user-id-param=true 일 때만, 예전 클라이언트 호환용)
+//   3) 둘 다 없으면 required=true 는 401, required=false 는 null
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {
+    boolean required() default true;
+}
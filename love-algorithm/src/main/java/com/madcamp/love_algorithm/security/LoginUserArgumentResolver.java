@@ -0,0 +1,59 @@
+package com.madcamp.love_algorithm.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.server.ResponseStatusException;
+
+// @LoginUser Long userId 파라미터 값 결정 (토큰 내용만 보고 DB는 조회하지 않음)
+@Component
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final boolean allowUserIdParam;
+
+    public LoginUserArgumentResolver(@Value("${game.auth.allow-user-id-param:false}") boolean allowUserIdParam) {
+        this.allowUserIdParam = allowUserIdParam;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginUser.class) && Long.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        boolean required = parameter.getParameterAnnotation(LoginUser.class).required();
+
+        // 1. 토큰
+        AuthPrincipal principal = (AuthPrincipal) webRequest.getAttribute(
+                AuthPrincipal.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (principal != null) {
+            if (principal.userId() == null && required) {
+                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "캐릭터를 먼저 생성해 주세요.");
+            }
+            return principal.userId();
+        }
+
+        // 2. 예전 방식 userId 파라미터 (기본값 1은 더 이상 쓰지 않음)
+        String userId = allowUserIdParam ? webRequest.getParameter("userId") : null;
+        if (userId != null && !userId.isBlank()) {
+            try {
+                return Long.valueOf(userId);
+            } catch (NumberFormatException e) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "userId 형식이 잘못되었습니다.");
+            }
+        }
+
+        if (required) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
+        }
+        return null;
+    }
+}
@@ -0,0 +1,225 @@
+package com.madcamp.love_algorithm.service;
+
+import com.madcamp.love_algorithm.repository.UserAffinityJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+// 호감도 write-behind 버퍼
+// 선택지 점수를 바로 DB에 쓰지 않고 유저별로 메모리에 합산해 두었다가 주기적으로 배치 upsert 합니다.
+// - 쓰기: ConcurrentHashMap.compute로 유저(키) 단위로만 잠기므로 다른 유저끼리는 서로 기다리지 않습니다.
+// - 읽기: DB 값 + 아직 flush 안 된 값을 더해서 돌려주므로 본인이 고른 결과가 바로 보입니다.
+// - DB 반영 실패: pending에 다시 더해 다음 주기에 재시도합니다. 유저별로 max-attempts번 연속 실패하거나
+//   제약 조건 위반(없는 유저 등, 다시 해도 안 되는 실패)이면 값을 에러 로그로 남기고 버립니다.
+// - 종료: @PreDestroy에서 남은 값이 없어질 때까지 (재시도 한도 안에서) 바로 다시 flush 합니다.
+@Slf4j
+@Component
+public class AffinityWriteBuffer {
+
+    private final UserAffinityJdbcRepository affinityJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int maxAttempts;
+
+    // userId -> (targetCharacterId -> 누적 변화량)
+    private final ConcurrentHashMap<Long, Map<String, Integer>> pending = new ConcurrentHashMap<>();
+
+    // 지금 DB에 쓰는 중인 배치 (커밋 전이라 DB에서도 pending에서도 안 보이는 값)
+    private volatile Map<Long, Map<String, Integer>> inFlight = Map.of();
+    private volatile CountDownLatch inFlightDone = new CountDownLatch(0);
+    // 시작된 flush 수 (읽는 도중에 새 flush가 값을 떼어 갔는지 확인용)
+    private volatile long flushesStarted;
+
+    // pending/inFlight를 옮기거나 한꺼번에 읽는 짧은 구간만 잠급니다. (DB 작업 중에는 잡지 않음)
+    private final Lock stateLock = new ReentrantLock();
+    // flush는 한 번에 하나만
+    private final Lock flushLock = new ReentrantLock();
+    // userId -> 연속 실패 횟수 (flushLock 안에서만 씀)
+    private final Map<Long, Integer> failures = new HashMap<>();
+
+    public AffinityWriteBuffer(UserAffinityJdbcRepository affinityJdbcRepository,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${game.affinity.write-behind.enabled:false}") boolean enabled,
+                               @Value("${game.affinity.write-behind.max-attempts:5}") int maxAttempts) {
+        this.affinityJdbcRepository = affinityJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 1. 변화량 누적
+    public void add(Long userId, Map<String, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // 매번 새 맵을 만들어 교체하므로 읽는 쪽은 락 없이 안전하게 볼 수 있습니다.
+        pending.compute(userId, (id, current) -> {
+            Map<String, Integer> merged = current == null ? new HashMap<>() : new HashMap<>(current);
+            deltas.forEach((character, delta) -> merged.merge(character, delta, Integer::sum));
+            return merged;
+        });
+    }
+
+    // 2. 읽기 (DB 값 + 버퍼 값)
+    // DB 조회는 잠금 밖에서 합니다. 이 유저 값이 DB에 쓰이는 중이면 그 flush가 끝날 때까지만 기다리고,
+    // 조회하는 사이에 새 flush가 시작됐으면(버퍼 값이 DB로 넘어갔을 수 있으면) 다시 읽습니다.
+    public int read(Long userId, String targetCharacterId, IntSupplier persistedScore) {
+        return readAll(userId, () -> Map.of(targetCharacterId, persistedScore.getAsInt()))
+                .getOrDefault(targetCharacterId, 0);
+    }
+
+    // 전체 캐릭터 읽기 (DB 값 + 버퍼 값)
+    public Map<String, Integer> readAll(Long userId, Supplier<Map<String, Integer>> persistedScores) {
+        while (true) {
+            long started;
+            Map<String, Integer> buffered;
+            CountDownLatch writing = null;
+            stateLock.lock();
+            try {
+                started = flushesStarted;
+                buffered = pending.getOrDefault(userId, Map.of());
+                if (inFlight.containsKey(userId)) {
+                    writing = inFlightDone;
+                }
+            } finally {
+                stateLock.unlock();
+            }
+
+            if (writing != null) {
+                awaitQuietly(writing);
+                continue;
+            }
+
+            Map<String, Integer> scores = new HashMap<>(persistedScores.get());
+            if (flushesStarted == started) {
+                buffered.forEach((character, delta) -> scores.merge(character, delta, Integer::sum));
+                return scores;
+            }
+        }
+    }
+
+    // 3. 주기적 flush (game.affinity.write-behind.flush-interval-ms 가 곧 유실 가능 구간입니다)
+    @Scheduled(fixedDelayString = "${game.affinity.write-behind.flush-interval-ms:1000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            // (1) 유저별로 떼어내서 inFlight로 옮깁니다. 이후 들어오는 값은 pending의 새 엔트리에 쌓입니다.
+            Map<Long, Map<String, Integer>> batch = new HashMap<>();
+            CountDownLatch done = new CountDownLatch(1);
+            stateLock.lock();
+            try {
+                for (Long userId : pending.keySet()) {
+                    Map<String, Integer> deltas = pending.remove(userId);
+                    if (deltas != null) {
+                        batch.put(userId, deltas);
+                    }
+                }
+                if (batch.isEmpty()) {
+                    return;
+                }
+                inFlight = batch;
+                inFlightDone = done;
+                flushesStarted++;
+            } finally {
+                stateLock.unlock();
+            }
+
+            // (2) 잠금 없이 DB 반영, 실패한 유저 몫은 pending에 다시 더해서 다음 주기에 재시도 (한도를 넘긴 유저는 write에서 버림)
+            Map<Long, Map<String, Integer>> failed = write(batch);
+            stateLock.lock();
+            try {
+                failed.forEach((userId, deltas) -> pending.merge(userId, deltas, AffinityWriteBuffer::sum));
+                inFlight = Map.of();
+            } finally {
+                stateLock.unlock();
+                done.countDown();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 종료 중에는 다음 주기가 없으므로 바로 다시 시도합니다. 유저마다 max-attempts번이면 write에서 버려지므로
+    // 그만큼 돌면 비지만, 그사이 새로 들어온 값이 남으면 에러 로그로 남깁니다.
+    @PreDestroy
+    public void drain() {
+        for (int attempt = 0; attempt < maxAttempts && !pending.isEmpty(); attempt++) {
+            flush();
+        }
+        pending.forEach((userId, deltas) ->
+                log.error("종료 중 호감도 반영 못 함, 버림: userId={}, deltas={}", userId, deltas));
+        pending.clear();
+    }
+
+    // 한 트랜잭션, 한 배치로 반영하고, 실패하면 유저별로 나눠 다시 시도해서 안 되는 유저 몫만 돌려줍니다.
+    private Map<Long, Map<String, Integer>> write(Map<Long, Map<String, Integer>> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> affinityJdbcRepository.addScores(batch));
+            failures.keySet().removeAll(batch.keySet());
+            return Map.of();
+        } catch (RuntimeException e) {
+            log.warn("호감도 배치 flush 실패, 유저별로 재시도: {}", e.getMessage());
+        }
+
+        Map<Long, Map<String, Integer>> failed = new HashMap<>();
+        batch.forEach((userId, deltas) -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> affinityJdbcRepository.addScores(userId, deltas));
+                failures.remove(userId);
+            } catch (DataIntegrityViolationException e) {
+                // 없는 유저 등 다시 해도 안 되는 실패
+                failures.remove(userId);
+                log.error("호감도 반영 불가, 버림: userId={}, deltas={}", userId, deltas, e);
+            } catch (RuntimeException e) {
+                int attempts = failures.merge(userId, 1, Integer::sum);
+                if (attempts >= maxAttempts) {
+                    failures.remove(userId);
+                    log.error("호감도 반영 {}회 연속 실패, 버림: userId={}, deltas={}", attempts, userId, deltas, e);
+                } else {
+                    log.warn("호감도 flush 실패 ({}/{}), 다음 주기에 재시도: userId={}, {}",
+                            attempts, maxAttempts, userId, e.getMessage());
+                    failed.put(userId, deltas);
+                }
+            }
+        });
+        return failed;
+    }
+
+    // 다시 넣을 값 + 그사이 새로 쌓인 값 (add와 같이 새 맵으로 교체)
+    private static Map<String, Integer> sum(Map<String, Integer> a, Map<String, Integer> b) {
+        Map<String, Integer> merged = new HashMap<>(a);
+        b.forEach((character, delta) -> merged.merge(character, delta, Integer::sum));
+        return merged;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("호감도 조회 중 인터럽트되었습니다.", e);
+        }
+    }
+}
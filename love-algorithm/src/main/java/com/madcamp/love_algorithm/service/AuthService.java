@@ -5,9 +5,11 @@ import com.madcamp.love_algorithm.entity.Account;
 import com.madcamp.love_algorithm.entity.User;
 import com.madcamp.love_algorithm.repository.AccountRepository;
 import com.madcamp.love_algorithm.repository.UserRepository;
+import com.madcamp.love_algorithm.security.JwtTokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 
@@ -17,6 +19,9 @@ public class AuthService {
 
     private final AccountRepository accountRepository;
     private final UserRepository userRepository;
+    private final JwtTokenService jwtTokenService;
+    private final RefreshTokenService refreshTokenService;
+    private final ProgressWriteBuffer progressWriteBuffer;
 
     // 1. 회원가입
     @Transactional
@@ -55,9 +60,12 @@ public class AuthService {
         // 해당 계정에 연결된 게임 캐릭터(User)가 있는지 조회
         User user = userRepository.findByAccount(account).orElse(null);
 
+        Long userId = user != null ? user.getId() : null;
         return AuthResponseDto.builder()
+                .token(jwtTokenService.issue(account.getId(), userId))
+                .refreshToken(refreshTokenService.issue(account.getId()))
                 .accountId(account.getId())
-                .userId(user != null ? user.getId() : null)
+                .userId(userId)
                 .email(account.getEmail())
                 .characterName(user != null ? user.getName() : null)
                 .currentSceneId(user != null ? user.getCurrentSceneId() : null)
@@ -66,8 +74,9 @@ public class AuthService {
 
     // 3. 새 게임 시작 (캐릭터 생성)
     @Transactional
-    public AuthResponseDto createCharacter(CreateUserRequestDto request) {
-        Account account = accountRepository.findById(request.getAccountId())
+    // accountId는 액세스 토큰에서 꺼낸 값 (요청 본문의 accountId는 쓰지 않음)
+    public AuthResponseDto createCharacter(Long accountId, CreateUserRequestDto request) {
+        Account account = accountRepository.findById(accountId)
                 .orElseThrow(() -> new RuntimeException("계정을 찾을 수 없습니다."));
 
         // 이미 캐릭터가 있는지 확인
@@ -84,7 +93,10 @@ public class AuthService {
 
         userRepository.save(user);
 
+        // 캐릭터가 생겼으므로 userId가 들어간 토큰으로 다시 발급
         return AuthResponseDto.builder()
+                .token(jwtTokenService.issue(account.getId(), user.getId()))
+                .refreshToken(refreshTokenService.issue(account.getId()))
                 .accountId(account.getId())
                 .userId(user.getId())
                 .email(account.getEmail())
@@ -92,4 +104,30 @@ public class AuthService {
                 .currentSceneId(user.getCurrentSceneId())
                 .build();
     }
-}
\ No newline at end of file
+
+    // 4. 토큰 재발급 (리프레시 토큰은 한 번 쓰면 교체)
+    // rotate가 재사용을 잡고 던지는 401에도 계정 토큰 전부 폐기는 커밋되어야 하므로 여기서도 롤백하지 않습니다.
+    @Transactional(noRollbackFor = ResponseStatusException.class)
+    public AuthResponseDto refresh(RefreshRequestDto request) {
+        Long accountId = refreshTokenService.rotate(request.getRefreshToken());
+        Long userId = userRepository.findByAccountId(accountId).map(User::getId).orElse(null);
+
+        return AuthResponseDto.builder()
+                .token(jwtTokenService.issue(accountId, userId))
+                .refreshToken(refreshTokenService.issue(accountId))
+                .accountId(accountId)
+                .userId(userId)
+                .build();
+    }
+
+    // 5. 로그아웃 (대기 중인 진행 상황 반영 + 리프레시 토큰 전부 폐기, 액세스 토큰은 만료 시간까지 유효)
+    // (캐릭터를 만들기 전에 받은 토큰이면 userId가 없으므로 계정으로 찾습니다)
+    public void logout(Long accountId, Long userId) {
+        Long progressUserId = userId != null ? userId
+                : userRepository.findByAccountId(accountId).map(User::getId).orElse(null);
+        if (progressUserId != null) {
+            progressWriteBuffer.flushUser(progressUserId);
+        }
+        refreshTokenService.revokeAll(accountId);
+    }
+}
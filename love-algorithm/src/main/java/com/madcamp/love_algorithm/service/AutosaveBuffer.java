@@ -0,0 +1,275 @@
+package com.madcamp.love_algorithm.service;
+
+import com.madcamp.love_algorithm.repository.AutosaveJdbcRepository;
+import com.madcamp.love_algorithm.repository.AutosaveJdbcRepository.Row;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 자동 저장 링 버퍼
+// 유저마다 최근 체크포인트 ring-size 개를 메모리에 두고, 새로 들어온 칸만 주기적으로 배치 upsert 합니다.
+// - 대사 넘김 경로에서는 메모리에 넣기만 하므로 DB를 기다리지 않습니다.
+// - 메모리에 올려 두는 유저 수는 max-users 까지 (넘으면 DB에 다 반영된 링부터 내림, 다음 접근 때 DB에서 복구)
+//   링마다 "아직 안 쓴 칸(dirty)"과 "쓰는 중인 칸(inFlight)"을 링 자체의 잠금 아래에서 관리하고,
+//   둘 다 비어 있을 때만 내립니다. 그래서 DB에 없는 칸을 가진 링이 메모리에서 사라지는 일이 없습니다.
+// - DB 반영 실패: 배치가 실패하면 링(유저)별로 나눠 다시 쓰고, 안 되는 링의 칸만 dirty로 되돌려 다음 주기에 재시도합니다.
+//   링이 max-attempts번 연속 실패하거나 제약 조건 위반이면 그 칸들은 에러 로그로 남기고 DB 반영을 포기합니다.
+//   (메모리의 체크포인트는 남아 있다가 링이 내려갈 때 함께 사라집니다)
+// - 종료: @PreDestroy에서 남은 칸이 없어질 때까지 (재시도 한도 안에서) 바로 다시 반영
+@Slf4j
+@Component
+public class AutosaveBuffer {
+
+    private final AutosaveJdbcRepository autosaveJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int ringSize;
+    private final int maxUsers;
+    private final int maxAttempts;
+
+    private final ConcurrentHashMap<Long, Ring> rings = new ConcurrentHashMap<>();
+
+    // flush가 살펴볼 링 목록 (실제로 쓸 칸이 있는지는 링의 dirty가 기준이고, 여기는 찾아가기 위한 표시)
+    private final ConcurrentHashMap<Long, Ring> dirtyRings = new ConcurrentHashMap<>();
+
+    // flush는 한 번에 하나만 (DB를 기다리는 동안 가상 스레드가 캐리어에 묶이지 않도록 synchronized 대신 Lock)
+    private final Lock flushLock = new ReentrantLock();
+
+    public AutosaveBuffer(AutosaveJdbcRepository autosaveJdbcRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${game.autosave.ring-size:5}") int ringSize,
+                          @Value("${game.autosave.max-users:10000}") int maxUsers,
+                          @Value("${game.autosave.max-attempts:5}") int maxAttempts) {
+        this.autosaveJdbcRepository = autosaveJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ringSize = ringSize;
+        this.maxUsers = maxUsers;
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    public record Checkpoint(long seq, String sceneId, String previewText, byte[] gameState, LocalDateTime savedAt) {
+    }
+
+    // 1. 체크포인트 추가 (가장 오래된 칸을 덮어씀)
+    public Checkpoint add(Long userId, String sceneId, String previewText, byte[] gameState) {
+        while (true) {
+            Ring ring = ring(userId);
+            Checkpoint checkpoint;
+            synchronized (ring) {
+                if (ring.evicted) {
+                    continue; // 방금 메모리에서 내려간 링이면 DB에서 다시 복구해서 씁니다.
+                }
+                checkpoint = new Checkpoint(ring.lastSeq + 1, sceneId, previewText, gameState, LocalDateTime.now());
+                ring.lastSeq = checkpoint.seq();
+                int index = ringIndex(checkpoint.seq());
+                ring.slots[index] = checkpoint;
+                ring.dirty.add(index);
+                dirtyRings.put(userId, ring);
+            }
+            evictIfNeeded();
+            return checkpoint;
+        }
+    }
+
+    // 2. 최근 순 목록
+    public List<Checkpoint> list(Long userId) {
+        Ring ring = ring(userId);
+        List<Checkpoint> checkpoints = new ArrayList<>(ringSize);
+        synchronized (ring) {
+            for (Checkpoint checkpoint : ring.slots) {
+                if (checkpoint != null) {
+                    checkpoints.add(checkpoint);
+                }
+            }
+        }
+        checkpoints.sort(Comparator.comparingLong(Checkpoint::seq).reversed());
+        return checkpoints;
+    }
+
+    public Optional<Checkpoint> find(Long userId, long seq) {
+        return list(userId).stream().filter(checkpoint -> checkpoint.seq() == seq).findFirst();
+    }
+
+    public Optional<Checkpoint> latest(Long userId) {
+        return list(userId).stream().findFirst();
+    }
+
+    // 3. 주기적 flush (새로 들어온 칸만, 한 트랜잭션/한 배치)
+    @Scheduled(fixedDelayString = "${game.autosave.flush-interval-ms:3000}")
+    public void flush() {
+        if (dirtyRings.isEmpty()) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            flushDirtyRings();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 종료 중에는 다음 주기가 없으므로 바로 다시 시도하고, 그래도 남은 칸은 에러 로그로 남깁니다.
+    @PreDestroy
+    public void drain() {
+        for (int attempt = 0; attempt < maxAttempts && !dirtyRings.isEmpty(); attempt++) {
+            flush();
+        }
+        dirtyRings.forEach((userId, ring) -> {
+            synchronized (ring) {
+                if (!ring.dirty.isEmpty()) {
+                    log.error("종료 중 자동 저장 반영 못 함, 버림: userId={}, seqs={}", userId, seqs(ring, ring.dirty));
+                }
+            }
+        });
+        dirtyRings.clear();
+    }
+
+    private void flushDirtyRings() {
+        // (1) 링마다 dirty 칸을 inFlight로 옮기면서 쓸 행을 만듭니다. (inFlight가 남아 있는 동안 링은 내려가지 않음)
+        Map<Ring, List<Row>> rowsByRing = new HashMap<>();
+        Map<Ring, List<Integer>> written = new HashMap<>();
+        for (Long userId : dirtyRings.keySet()) {
+            Ring ring = dirtyRings.remove(userId);
+            if (ring == null) {
+                continue;
+            }
+            synchronized (ring) {
+                if (ring.dirty.isEmpty()) {
+                    continue;
+                }
+                List<Row> rows = rowsByRing.computeIfAbsent(ring, r -> new ArrayList<>());
+                for (int index : ring.dirty) {
+                    Checkpoint checkpoint = ring.slots[index];
+                    rows.add(new Row(userId, index, checkpoint.seq(), checkpoint.sceneId(),
+                            checkpoint.previewText(), checkpoint.gameState(), checkpoint.savedAt()));
+                }
+                written.put(ring, new ArrayList<>(ring.dirty));
+                ring.inFlight.addAll(ring.dirty);
+                ring.dirty.clear();
+            }
+        }
+        if (rowsByRing.isEmpty()) {
+            return;
+        }
+
+        // (2) 한 트랜잭션/한 배치로 반영, 실패하면 링별로 나눠 다시 써서 안 되는 링만 골라냅니다.
+        Map<Ring, RuntimeException> failed = new HashMap<>();
+        try {
+            List<Row> rows = rowsByRing.values().stream().flatMap(List::stream).toList();
+            transactionTemplate.executeWithoutResult(status -> autosaveJdbcRepository.upsertAll(rows));
+        } catch (RuntimeException e) {
+            if (rowsByRing.size() == 1) {
+                failed.put(rowsByRing.keySet().iterator().next(), e);
+            } else {
+                log.warn("자동 저장 배치 flush 실패, 유저별로 재시도: {}", e.getMessage());
+                rowsByRing.forEach((ring, rows) -> {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> autosaveJdbcRepository.upsertAll(rows));
+                    } catch (RuntimeException retryError) {
+                        failed.put(ring, retryError);
+                    }
+                });
+            }
+        }
+
+        // (3) inFlight 정리, 실패한 칸은 dirty로 되돌림 (한도를 넘었거나 다시 해도 안 되는 실패면 포기)
+        //     (그 사이에 같은 칸이 새 값으로 바뀌었으면 다음 주기에 새 값이 나갑니다. 링은 inFlight 동안 내려가지 않았으므로 지금도 살아 있는 링입니다)
+        for (Map.Entry<Ring, List<Integer>> entry : written.entrySet()) {
+            Ring ring = entry.getKey();
+            RuntimeException error = failed.get(ring);
+            synchronized (ring) {
+                ring.inFlight.removeAll(entry.getValue());
+                if (error == null) {
+                    ring.failures = 0;
+                } else if (error instanceof DataIntegrityViolationException || ++ring.failures >= maxAttempts) {
+                    log.error("자동 저장 반영 포기 (연속 실패 {}회): userId={}, seqs={}",
+                            Math.max(ring.failures, 1), ring.userId, rowsByRing.get(ring).stream().map(Row::seq).toList(), error);
+                    ring.failures = 0;
+                } else {
+                    log.warn("자동 저장 flush 실패 ({}/{}), 다음 주기에 재시도: userId={}, {}",
+                            ring.failures, maxAttempts, ring.userId, error.getMessage());
+                    ring.dirty.addAll(entry.getValue());
+                }
+                if (!ring.dirty.isEmpty()) {
+                    dirtyRings.put(ring.userId, ring);
+                }
+            }
+        }
+    }
+
+    // ==========================================
+    // Helper Methods
+    // ==========================================
+
+    // 메모리에 없으면 DB에서 복구 (조회는 잠금 밖에서, 동시에 복구되면 먼저 들어간 쪽을 사용)
+    private Ring ring(Long userId) {
+        Ring ring = rings.get(userId);
+        if (ring != null) {
+            return ring;
+        }
+
+        Ring loaded = new Ring(userId, ringSize);
+        for (Row row : autosaveJdbcRepository.findByUser(userId)) {
+            // ring-size 설정이 바뀌었어도 seq 기준으로 최근 것만 남습니다.
+            loaded.slots[ringIndex(row.seq())] = new Checkpoint(row.seq(), row.sceneId(), row.previewText(),
+                    row.gameState(), row.savedAt());
+            loaded.lastSeq = Math.max(loaded.lastSeq, row.seq());
+        }
+        Ring existing = rings.putIfAbsent(userId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private void evictIfNeeded() {
+        if (rings.size() <= maxUsers) {
+            return;
+        }
+        int target = maxUsers - maxUsers / 10;
+        Iterator<Ring> it = rings.values().iterator();
+        while (rings.size() > target && it.hasNext()) {
+            Ring ring = it.next();
+            synchronized (ring) {
+                // DB에 다 들어간 링만 내림 (evicted 표시 후에 들어온 add는 DB에서 새로 복구한 링에 씁니다)
+                if (ring.dirty.isEmpty() && ring.inFlight.isEmpty()) {
+                    ring.evicted = true;
+                    rings.remove(ring.userId, ring);
+                }
+            }
+        }
+    }
+
+    // 로그용 칸 번호 -> seq (링 잠금 안에서 호출)
+    private static List<Long> seqs(Ring ring, Collection<Integer> indexes) {
+        return indexes.stream().map(index -> ring.slots[index].seq()).sorted().toList();
+    }
+
+    private int ringIndex(long seq) {
+        return (int) (seq % ringSize);
+    }
+
+    // 아래 필드는 모두 링 자신의 잠금(synchronized (ring)) 아래에서만 읽고 씁니다.
+    private static final class Ring {
+        final Long userId;
+        final Checkpoint[] slots;
+        final Set<Integer> dirty = new HashSet<>();    // 아직 DB에 안 쓴 칸
+        final Set<Integer> inFlight = new HashSet<>(); // 지금 DB에 쓰는 중인 칸
+        boolean evicted;                               // 메모리에서 내려감 (이 링에는 더 쓰지 않음)
+        int failures;                                  // 연속 flush 실패 횟수
+        long lastSeq;
+
+        Ring(Long userId, int size) {
+            this.userId = userId;
+            this.slots = new Checkpoint[size];
+        }
+    }
+}
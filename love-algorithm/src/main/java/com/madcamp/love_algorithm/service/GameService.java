@@ -6,40 +6,51 @@ import com.madcamp.love_algorithm.dto.ScriptResponseDto;
 import com.madcamp.love_algorithm.entity.*;
 import com.madcamp.love_algorithm.repository.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class GameService {
 
-    private final ScriptRepository scriptRepository;
-    private final OptionRepository optionRepository;
     private final UserAffinityRepository affinityRepository; // 리포지토리 변수명 통일
-    private final UserRepository userRepository;
-    private final SceneRepository sceneRepository;
+    private final UserAffinityJdbcRepository affinityJdbcRepository;
+    private final AffinityWriteBuffer affinityWriteBuffer;
+    private final UserProfileCache userProfileCache;
+    private final ScenarioCache scenarioCache;
+    private final ScenarioSnapshot scenarioSnapshot;
+    private final SceneTemplates sceneTemplates;
+
+    // 다음 장면 미리 보내기: 최대 단계 수, 미리 보내는 장면 JSON 합계 상한
+    @Value("${game.scene.lookahead.max-depth:2}")
+    private int lookaheadMaxDepth;
+    @Value("${game.scene.lookahead.max-bytes:65536}")
+    private int lookaheadMaxBytes;
 
     // 1. 장면(대사+선택지) 불러오기
-    @Transactional(readOnly = true)
+    // 시나리오 데이터는 ScenarioCache, 유저 이름은 UserProfileCache에서 읽습니다.
     public SceneResponseDto getScene(String sceneId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        // (1) 대사 가져오기
-        List<Script> scripts = scriptRepository.findBySceneIdOrderByScriptIndex(sceneId);
-        List<ScriptResponseDto> scriptDtos = scripts.stream()
-                .map(script -> ScriptResponseDto.from(script, user.getName()))
-                .collect(Collectors.toList());
+        return renderScene(sceneId, getUserName(userId));
+    }
 
-        // (2) 선택지 가져오기
-        Scene scene = sceneRepository.findById(sceneId)
+    // 이미 조회한 유저 이름으로 장면 렌더링 (컨트롤러에서 ETag 계산 후 재사용)
+    public SceneResponseDto renderScene(String sceneId, String userName) {
+        ScenarioCache.SceneNode scene = scenarioCache.findScene(sceneId)
                 .orElseThrow(() -> new RuntimeException("Scene not found"));
 
-        List<Option> options = optionRepository.findByScene(scene);
-        List<OptionDto> optionDtos = options.stream()
+        // (1) 대사
+        List<ScriptResponseDto> scriptDtos = scene.scripts().stream()
+                .map(script -> ScriptResponseDto.from(script, userName))
+                .collect(Collectors.toList());
+
+        // (2) 선택지
+        List<OptionDto> optionDtos = scene.options().stream()
                 .map(OptionDto::from)
                 .collect(Collectors.toList());
 
@@ -50,36 +61,87 @@ public class GameService {
                 .build();
     }
 
+    // 장면 응답 JSON 바이트 (장면별 템플릿에 이름만 끼워 넣음, GET /api/script/scene 에서 사용)
+    public byte[] renderSceneJson(String sceneId, String userName) {
+        return sceneTemplates.render(sceneId, userName);
+    }
+
+    // 장면 + 다음 장면들 묶음에 넣을 장면 ID (lookahead 단계까지, 설정한 최대 단계/바이트 안에서, 요청한 장면이 첫 번째)
+    public List<String> selectSceneBundle(String sceneId, String userName, int lookahead) {
+        return sceneTemplates.selectBundle(sceneId, userName, Math.min(lookahead, lookaheadMaxDepth), lookaheadMaxBytes);
+    }
+
+    // 고른 장면들로 묶음 응답 JSON 바이트 조립
+    public byte[] renderSceneBundleJson(List<String> sceneIds, String userName) {
+        return sceneTemplates.assembleBundle(sceneIds, userName);
+    }
+
+    // 장면 ETag (콘텐츠 해시 + 플레이어 이름), 스냅샷이 아직 없으면 null
+    public String getSceneETag(String sceneId, String userName) {
+        return scenarioSnapshot.sceneETag(sceneId, userName);
+    }
+
+    // 묶음 ETag (들어간 장면 전부의 해시 + 플레이어 이름)
+    public String getSceneETag(List<String> sceneIds, String userName) {
+        return scenarioSnapshot.sceneETag(sceneIds, userName);
+    }
+
+    // 유저 이름 (UserProfileCache, TTL 안에서는 DB 조회 없음)
+    public String getUserName(Long userId) {
+        return userProfileCache.get(userId).name();
+    }
+
     // 2. 특정 캐릭터의 호감도 점수 조회
+    // write-behind 버퍼가 켜져 있으면 아직 DB에 안 들어간 값까지 더해서 돌려줍니다.
     @Transactional(readOnly = true)
     public int getAffinityScore(Long userId, String targetCharacterId) {
+        if (affinityWriteBuffer.isEnabled()) {
+            return affinityWriteBuffer.read(userId, targetCharacterId,
+                    () -> findPersistedScore(userId, targetCharacterId));
+        }
+        return findPersistedScore(userId, targetCharacterId);
+    }
+
+    private int findPersistedScore(Long userId, String targetCharacterId) {
         return affinityRepository.findByUserIdAndTargetCharacterId(userId, targetCharacterId)
                 .map(UserAffinity::getScore)
                 .orElse(0); // 데이터가 없으면 초기값 0 반환
     }
 
+    // 2-1. 전체 캐릭터 호감도 한 번에 조회 (쿼리 1번)
+    @Transactional(readOnly = true)
+    public Map<String, Integer> getAllAffinityScores(Long userId) {
+        if (affinityWriteBuffer.isEnabled()) {
+            return affinityWriteBuffer.readAll(userId, () -> affinityJdbcRepository.findScores(userId));
+        }
+        return affinityJdbcRepository.findScores(userId);
+    }
+
+    // 2-2. 여러 캐릭터 호감도 변화량을 한 트랜잭션(배치 1번)으로 반영
+    @Transactional
+    public void addAffinityScores(Long userId, Map<String, Integer> deltas) {
+        if (affinityWriteBuffer.isEnabled()) {
+            affinityWriteBuffer.add(userId, deltas);
+        } else {
+            affinityJdbcRepository.addScores(userId, deltas);
+        }
+    }
+
     // 3. 선택지 선택 (호감도 반영 후 다음 씬 ID 반환)
+    // 선택지/점수는 ScenarioCache에서 읽고, 호감도는 upsert 배치 한 번으로 반영합니다.
+    // (존재하지 않는 유저는 user_id FK 제약에서 걸러집니다.)
     @Transactional
     public String selectOption(Long userId, Long optionId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        Option option = optionRepository.findById(optionId)
+        ScenarioCache.OptionNode option = scenarioCache.findOption(optionId)
                 .orElseThrow(() -> new RuntimeException("Option not found"));
 
-        // 호감도 반영 로직
-        for (OptionScore os : option.getOptionScores()) {
-            UserAffinity affinity = affinityRepository.findByUserAndTargetCharacterId(user, os.getTargetCharacterId())
-                    .orElseGet(() -> UserAffinity.builder()
-                            .user(user)
-                            .targetCharacterId(os.getTargetCharacterId())
-                            .score(0)
-                            .build());
-
-            affinity.addScore(os.getScore()); // 엔티티 내부의 addScore 호출
-            affinityRepository.save(affinity);
+        // 같은 캐릭터 점수가 여러 개면 합쳐서 한 행으로 보냅니다.
+        Map<String, Integer> deltas = new LinkedHashMap<>();
+        for (ScenarioCache.OptionScoreNode os : option.scores()) {
+            deltas.merge(os.targetCharacterId(), os.score(), Integer::sum);
         }
+        addAffinityScores(userId, deltas);
 
-        return option.getNextSceneId(); // 다음 이동할 장면 ID 반환
+        return option.nextSceneId(); // 다음 이동할 장면 ID 반환
     }
-}
\ No newline at end of file
+}
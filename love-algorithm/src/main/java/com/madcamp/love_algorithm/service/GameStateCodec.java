@@ -0,0 +1,135 @@
+package com.madcamp.love_algorithm.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.madcamp.love_algorithm.dto.GameStateDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+// 세이브 슬롯용 GameState 바이너리 포맷
+//   [0] 'G'  [1] 버전  [2~] deflate 압축된 본문
+//   본문(v1): currentSceneId(str) | currentDialogueIndex(int) | history(count, str...) |
+//            affections(count, [str,int]...) | miniGameScores(count, [str,int]...) | previousValues(JSON str)
+//   str: 길이(int, null이면 -1) | UTF-8 bytes
+// 필드를 추가할 때는 버전을 올리고 decode에 이전 버전 분기를 남겨 두세요.
+@Component
+@RequiredArgsConstructor
+public class GameStateCodec {
+
+    private static final byte MAGIC = 'G';
+    private static final byte VERSION = 1;
+
+    private final ObjectMapper objectMapper;
+
+    public byte[] encode(GameStateDto state) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        bytes.write(MAGIC);
+        bytes.write(VERSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            writeString(out, state.getCurrentSceneId());
+            out.writeInt(state.getCurrentDialogueIndex());
+
+            List<String> history = state.getHistory() != null ? state.getHistory() : List.of();
+            out.writeInt(history.size());
+            for (String sceneId : history) {
+                writeString(out, sceneId);
+            }
+
+            writeScores(out, state.getAffections());
+            writeScores(out, state.getMiniGameScores());
+            writeString(out, state.getPreviousValues() != null
+                    ? objectMapper.writeValueAsString(state.getPreviousValues()) : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("게임 상태를 저장 형식으로 변환할 수 없습니다.", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public GameStateDto decode(byte[] data) {
+        if (data.length < 2 || data[0] != MAGIC) {
+            throw new IllegalArgumentException("세이브 데이터 형식이 아닙니다.");
+        }
+        if (data[1] != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 세이브 데이터 버전: " + data[1]);
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(data, 2, data.length - 2)))) {
+            String currentSceneId = readString(in);
+            int currentDialogueIndex = in.readInt();
+
+            int historySize = in.readInt();
+            List<String> history = new ArrayList<>(Math.min(historySize, 1024));
+            for (int i = 0; i < historySize; i++) {
+                history.add(readString(in));
+            }
+
+            Map<String, Integer> affections = readScores(in);
+            Map<String, Integer> miniGameScores = readScores(in);
+            String previousValues = readString(in);
+
+            return GameStateDto.builder()
+                    .currentSceneId(currentSceneId)
+                    .currentDialogueIndex(currentDialogueIndex)
+                    .history(history)
+                    .affections(affections)
+                    .miniGameScores(miniGameScores)
+                    .previousValues(previousValues != null
+                            ? objectMapper.readValue(previousValues, new TypeReference<Map<String, Object>>() {})
+                            : null)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException("세이브 데이터를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static void writeScores(DataOutputStream out, Map<String, Integer> scores) throws IOException {
+        if (scores == null) {
+            out.writeInt(-1);
+            return;
+        }
+        out.writeInt(scores.size());
+        for (Map.Entry<String, Integer> entry : scores.entrySet()) {
+            writeString(out, entry.getKey());
+            out.writeInt(entry.getValue() != null ? entry.getValue() : 0);
+        }
+    }
+
+    private static Map<String, Integer> readScores(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Integer> scores = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            scores.put(readString(in), in.readInt());
+        }
+        return scores;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
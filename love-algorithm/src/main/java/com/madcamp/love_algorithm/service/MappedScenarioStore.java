@@ -0,0 +1,267 @@
+package com.madcamp.love_algorithm.service;
+
+import com.madcamp.love_algorithm.entity.ScriptType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+// 대사(Script)를 바이너리 파일 하나로 컴파일해서 FileChannel.map으로 올려 두는 저장소 (선택 기능)
+// - 힙에는 장면별 오프셋만 두고, 대사 내용은 OS 페이지 캐시에 있는 매핑 영역에서 바로 읽습니다.
+// - 같은 호스트의 여러 JVM이 같은 파일(game.scenario.mapped.path)을 매핑하면 내용은 한 벌만 메모리에 올라갑니다.
+//
+// 파일 구조 (big-endian)
+//   header : magic "LASC" | version(int) | contentHash(32 bytes) | sceneCount(int)
+//   index  : sceneCount x [ sceneId(str) | blockOffset(int) ]
+//   block  : scriptCount(int) | scriptCount x recordOffset(int) | records...
+//   record : scriptIndex(int) | type(str) | id | speakerId | content | backgroundImgId
+//            | backgroundSoundId | characterImgId | effectSoundId | overlayImageId (모두 str)
+//   str    : length(int, null이면 -1) | UTF-8 bytes
+@Component
+public class MappedScenarioStore {
+
+    private static final int MAGIC = 0x4C415343; // "LASC"
+    private static final int VERSION = 1;
+    private static final int HASH_OFFSET = 8;
+    private static final int HASH_LENGTH = 32;
+
+    private final boolean enabled;
+    private final Path path;
+
+    public MappedScenarioStore(@Value("${game.scenario.mapped.enabled:false}") boolean enabled,
+                               @Value("${game.scenario.mapped.path:${java.io.tmpdir}/love-algorithm/scenario.bin}") String path) {
+        this.enabled = enabled;
+        this.path = Paths.get(path);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 장면별 대사를 파일로 컴파일(내용이 같으면 기존 파일 재사용)하고 매핑된 리스트로 돌려줍니다.
+    public Map<String, List<ScenarioCache.ScriptNode>> map(Map<String, List<ScenarioCache.ScriptNode>> scriptsByScene) {
+        try {
+            byte[] compiled = compile(new TreeMap<>(scriptsByScene));
+            if (!sameContent(compiled)) {
+                write(compiled);
+            }
+
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()); // 채널을 닫아도 매핑은 유지됨
+            }
+
+            Map<String, List<ScenarioCache.ScriptNode>> mapped = readIndex(buffer);
+            System.out.println(">>> MappedScenarioStore 매핑 완료: " + path + " (" + buffer.capacity() + " bytes)");
+            return mapped;
+        } catch (IOException e) {
+            throw new UncheckedIOException("시나리오 바이너리 파일 생성 실패: " + path, e);
+        }
+    }
+
+    // ==========================================
+    // 쓰기
+    // ==========================================
+
+    private static byte[] compile(SortedMap<String, List<ScenarioCache.ScriptNode>> scriptsByScene) throws IOException {
+        // 1. 장면 블록들을 먼저 만들고
+        ByteArrayOutputStream blocks = new ByteArrayOutputStream();
+        Map<String, Integer> blockOffsets = new LinkedHashMap<>();
+        for (Map.Entry<String, List<ScenarioCache.ScriptNode>> scene : scriptsByScene.entrySet()) {
+            blockOffsets.put(scene.getKey(), blocks.size());
+            blocks.write(block(scene.getValue()));
+        }
+
+        // 2. 인덱스 크기를 알아야 블록의 절대 위치가 정해집니다.
+        int indexSize = 0;
+        for (String sceneId : blockOffsets.keySet()) {
+            indexSize += 4 + sceneId.getBytes(StandardCharsets.UTF_8).length + 4;
+        }
+        int dataStart = 4 + 4 + HASH_LENGTH + 4 + indexSize;
+        byte[] data = blocks.toByteArray();
+
+        ByteArrayOutputStream file = new ByteArrayOutputStream(dataStart + data.length);
+        DataOutputStream out = new DataOutputStream(file);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.write(sha256(data));
+        out.writeInt(blockOffsets.size());
+        for (Map.Entry<String, Integer> entry : blockOffsets.entrySet()) {
+            writeString(out, entry.getKey());
+            out.writeInt(dataStart + entry.getValue());
+        }
+        out.write(data);
+        out.flush();
+        return file.toByteArray();
+    }
+
+    // 블록 안의 레코드 오프셋은 블록 시작 기준 → readIndex에서 절대 위치로 보정
+    private static byte[] block(List<ScenarioCache.ScriptNode> scripts) throws IOException {
+        List<byte[]> records = new ArrayList<>(scripts.size());
+        for (ScenarioCache.ScriptNode script : scripts) {
+            ByteArrayOutputStream record = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(record);
+            out.writeInt(script.scriptIndex());
+            writeString(out, script.type() != null ? script.type().name() : null);
+            writeString(out, script.id());
+            writeString(out, script.speakerId());
+            writeString(out, script.content());
+            writeString(out, script.backgroundImgId());
+            writeString(out, script.backgroundSoundId());
+            writeString(out, script.characterImgId());
+            writeString(out, script.effectSoundId());
+            writeString(out, script.overlayImageId());
+            out.flush();
+            records.add(record.toByteArray());
+        }
+
+        ByteArrayOutputStream block = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(block);
+        out.writeInt(records.size());
+        int offset = 4 + 4 * records.size();
+        for (byte[] record : records) {
+            out.writeInt(offset);
+            offset += record.length;
+        }
+        for (byte[] record : records) {
+            out.write(record);
+        }
+        out.flush();
+        return block.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // 다른 JVM이 이미 같은 내용으로 만들어 둔 파일이면 그대로 씁니다.
+    private boolean sameContent(byte[] compiled) throws IOException {
+        if (!Files.exists(path) || Files.size(path) != compiled.length) {
+            return false;
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HASH_OFFSET + HASH_LENGTH);
+            channel.read(header, 0);
+            return Arrays.equals(header.array(), 0, header.capacity(), compiled, 0, header.capacity());
+        }
+    }
+
+    // 임시 파일에 쓰고 원자적으로 교체 (이미 매핑 중인 다른 JVM은 예전 파일을 계속 봅니다)
+    private void write(byte[] compiled) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Path tmp = Files.createTempFile(path.getParent() != null ? path.getParent() : Paths.get("."), "scenario", ".tmp");
+        Files.write(tmp, compiled);
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // ==========================================
+    // 읽기
+    // ==========================================
+
+    private static Map<String, List<ScenarioCache.ScriptNode>> readIndex(ByteBuffer buffer) {
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("시나리오 바이너리 파일 형식이 아닙니다.");
+        }
+        int position = HASH_OFFSET + HASH_LENGTH;
+        int sceneCount = buffer.getInt(position);
+        position += 4;
+
+        Map<String, List<ScenarioCache.ScriptNode>> scenes = new HashMap<>();
+        for (int i = 0; i < sceneCount; i++) {
+            int length = buffer.getInt(position);
+            String sceneId = readString(buffer, position);
+            position += 4 + length;
+            int blockOffset = buffer.getInt(position);
+            position += 4;
+            scenes.put(sceneId, new MappedScriptList(buffer, blockOffset));
+        }
+        return scenes;
+    }
+
+    // position 위치의 str 하나 (absolute get만 쓰므로 여러 스레드가 같은 버퍼를 동시에 읽어도 안전)
+    private static String readString(ByteBuffer buffer, int position) {
+        int length = buffer.getInt(position);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(position + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int skipString(ByteBuffer buffer, int position) {
+        int length = buffer.getInt(position);
+        return position + 4 + Math.max(length, 0);
+    }
+
+    // 장면 하나의 대사 목록 (get 할 때마다 매핑 영역에서 레코드 하나를 디코딩, 힙에는 위치만 보관)
+    private static final class MappedScriptList extends AbstractList<ScenarioCache.ScriptNode> implements RandomAccess {
+
+        private final ByteBuffer buffer;
+        private final int blockOffset;
+        private final int size;
+
+        MappedScriptList(ByteBuffer buffer, int blockOffset) {
+            this.buffer = buffer;
+            this.blockOffset = blockOffset;
+            this.size = buffer.getInt(blockOffset);
+        }
+
+        @Override
+        public ScenarioCache.ScriptNode get(int index) {
+            Objects.checkIndex(index, size);
+            int position = blockOffset + buffer.getInt(blockOffset + 4 + 4 * index);
+
+            int scriptIndex = buffer.getInt(position);
+            position += 4;
+            String[] fields = new String[9];
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = readString(buffer, position);
+                position = skipString(buffer, position);
+            }
+            return new ScenarioCache.ScriptNode(
+                    fields[1],
+                    scriptIndex,
+                    fields[0] != null ? ScriptType.valueOf(fields[0]) : null,
+                    fields[2],
+                    fields[3],
+                    fields[4],
+                    fields[5],
+                    fields[6],
+                    fields[7],
+                    fields[8]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static byte[] sha256(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
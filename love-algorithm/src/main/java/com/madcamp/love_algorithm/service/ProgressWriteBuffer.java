@@ -0,0 +1,168 @@
+package com.madcamp.love_algorithm.service;
+
+import com.madcamp.love_algorithm.repository.UserProgressJdbcRepository;
+import com.madcamp.love_algorithm.repository.UserProgressJdbcRepository.Progress;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 진행 상황(현재 씬/대사 인덱스/방문 기록) write-behind 버퍼
+// 대사를 넘길 때마다 들어오는 요청을 유저별로 마지막 값 하나만 남겨 두었다가 주기적으로 UPDATE 배치 한 번으로 씁니다.
+// - 빠르게 클릭해서 넘겨도 flush 주기마다 유저당 UPDATE 1건
+// - flushUser(): 세션 종료(final=true) 때 해당 유저만 바로 반영
+// - DB 반영 실패: 유저별로 나눠 다시 쓰고, 안 되는 유저 몫만 pending에 되돌려 다음 주기에 재시도
+//   (그사이 들어온 더 새 값이 있으면 그 값을 유지). max-attempts번 연속 실패하거나 제약 조건 위반이면
+//   에러 로그로 남기고 버립니다. 한 유저의 잘못된 값 때문에 배치 전체가 계속 실패하지 않게 하기 위함입니다.
+// - 종료: @PreDestroy에서 남은 값이 없어질 때까지 (재시도 한도 안에서) 바로 다시 반영
+@Slf4j
+@Component
+public class ProgressWriteBuffer {
+
+    private final UserProgressJdbcRepository progressJdbcRepository;
+    private final UserProfileCache userProfileCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+
+    private final ConcurrentHashMap<Long, Progress> pending = new ConcurrentHashMap<>();
+
+    // 예전 값이 새 값보다 늦게 써지지 않도록 "떼어내기 + DB 반영"은 한 번에 하나만 실행합니다.
+    private final Lock flushLock = new ReentrantLock();
+    // userId -> 연속 실패 횟수 (flushLock 안에서만 씀)
+    private final Map<Long, Integer> failures = new HashMap<>();
+
+    public ProgressWriteBuffer(UserProgressJdbcRepository progressJdbcRepository,
+                               UserProfileCache userProfileCache,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${game.progress.max-attempts:5}") int maxAttempts) {
+        this.progressJdbcRepository = progressJdbcRepository;
+        this.userProfileCache = userProfileCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    // 1. 기록 (같은 유저의 이전 값은 덮어씀)
+    public void record(Long userId, Progress progress) {
+        pending.put(userId, progress);
+    }
+
+    // 아직 DB에 안 들어간 값 (없으면 null)
+    public Progress peek(Long userId) {
+        return pending.get(userId);
+    }
+
+    // 세이브 불러오기처럼 진행 위치를 직접 덮어쓸 때, 대기 중인 옛 값이 나중에 덮어쓰지 않도록 버립니다.
+    public void discard(Long userId) {
+        flushLock.lock();
+        try {
+            pending.remove(userId);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 2. 주기적 flush
+    @Scheduled(fixedDelayString = "${game.progress.flush-interval-ms:2000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            Map<Long, Progress> batch = new HashMap<>();
+            for (Long userId : pending.keySet()) {
+                Progress progress = pending.remove(userId);
+                if (progress != null) {
+                    batch.put(userId, progress);
+                }
+            }
+            write(batch);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 3. 한 유저만 바로 반영 (세션 종료 시)
+    public void flushUser(Long userId) {
+        flushLock.lock();
+        try {
+            Progress progress = pending.remove(userId);
+            if (progress != null) {
+                write(Map.of(userId, progress));
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 종료 중에는 다음 주기가 없으므로 바로 다시 시도하고, 그래도 남은 값은 에러 로그로 남깁니다.
+    @PreDestroy
+    public void drain() {
+        for (int attempt = 0; attempt < maxAttempts && !pending.isEmpty(); attempt++) {
+            flush();
+        }
+        pending.forEach((userId, progress) ->
+                log.error("종료 중 진행 상황 반영 못 함, 버림: userId={}, progress={}", userId, progress));
+        pending.clear();
+    }
+
+    // 한 배치로 반영하고, 실패하면 유저별로 나눠 다시 씁니다.
+    private void write(Map<Long, Progress> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> progressJdbcRepository.updateProgress(batch));
+            succeeded(batch.keySet());
+            return;
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.forEach((userId, progress) -> failed(userId, progress, e));
+                return;
+            }
+            log.warn("진행 상황 배치 flush 실패, 유저별로 재시도: {}", e.getMessage());
+        }
+
+        batch.forEach((userId, progress) -> {
+            try {
+                transactionTemplate.executeWithoutResult(
+                        status -> progressJdbcRepository.updateProgress(Map.of(userId, progress)));
+                succeeded(Set.of(userId));
+            } catch (RuntimeException e) {
+                failed(userId, progress, e);
+            }
+        });
+    }
+
+    private void succeeded(Set<Long> userIds) {
+        failures.keySet().removeAll(userIds);
+        userIds.forEach(userProfileCache::invalidate);
+    }
+
+    // 재시도할 값이면 pending에 되돌리고 (더 새 값이 있으면 그 값 유지), 아니면 버림
+    private void failed(Long userId, Progress progress, RuntimeException e) {
+        if (e instanceof DataIntegrityViolationException) {
+            failures.remove(userId);
+            log.error("진행 상황 반영 불가, 버림: userId={}, progress={}", userId, progress, e);
+            return;
+        }
+        int attempts = failures.merge(userId, 1, Integer::sum);
+        if (attempts >= maxAttempts) {
+            failures.remove(userId);
+            log.error("진행 상황 반영 {}회 연속 실패, 버림: userId={}, progress={}", attempts, userId, progress, e);
+            return;
+        }
+        log.warn("진행 상황 flush 실패 ({}/{}), 다음 주기에 재시도: userId={}, {}",
+                attempts, maxAttempts, userId, e.getMessage());
+        pending.putIfAbsent(userId, progress);
+    }
+}
@@ -0,0 +1,94 @@
+package com.madcamp.love_algorithm.service;
+
+import com.madcamp.love_algorithm.entity.RefreshToken;
+import com.madcamp.love_algorithm.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+// 리프레시 토큰 발급/교체(rotation)/폐기
+// 액세스 토큰은 DB 없이 검증하고, 이 테이블은 재발급(드물게 호출) 때만 읽습니다.
+@Service
+public class RefreshTokenService {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration refreshTokenTtl;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${game.auth.refresh-token-ttl:14d}") Duration refreshTokenTtl) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+
+    // 새 토큰 발급 (원문은 응답으로만 나가고 DB에는 해시만)
+    @Transactional
+    public String issue(Long accountId) {
+        byte[] bytes = new byte[32];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        LocalDateTime now = LocalDateTime.now();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .accountId(accountId)
+                .tokenHash(hash(token))
+                .expiresAt(now.plus(refreshTokenTtl))
+                .createdAt(now)
+                .build());
+        return token;
+    }
+
+    // 기존 토큰을 폐기하고 계정 ID 반환 (호출 측에서 새 토큰 발급)
+    // 이미 폐기된 토큰이 다시 오면 탈취로 보고 계정의 토큰을 전부 폐기합니다. (이 폐기는 롤백하지 않음)
+    @Transactional(noRollbackFor = ResponseStatusException.class)
+    public Long rotate(String token) {
+        if (token == null || token.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "리프레시 토큰이 없습니다.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken stored = refreshTokenRepository.findByTokenHash(hash(token))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다."));
+
+        if (stored.getExpiresAt().isBefore(now)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "리프레시 토큰이 만료되었습니다.");
+        }
+        if (refreshTokenRepository.revokeIfActive(stored.getId(), now) == 0) {
+            refreshTokenRepository.revokeAll(stored.getAccountId(), now);
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "이미 사용된 리프레시 토큰입니다. 다시 로그인해 주세요.");
+        }
+        return stored.getAccountId();
+    }
+
+    @Transactional
+    public void revokeAll(Long accountId) {
+        refreshTokenRepository.revokeAll(accountId, LocalDateTime.now());
+    }
+
+    // 만료된 토큰 정리 (하루 한 번)
+    @Scheduled(fixedDelayString = "${game.auth.refresh-token-cleanup-interval-ms:86400000}")
+    @Transactional
+    public void deleteExpired() {
+        refreshTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private static String hash(String token) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
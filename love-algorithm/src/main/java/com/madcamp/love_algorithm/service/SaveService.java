@@ -1,15 +1,23 @@
 package com.madcamp.love_algorithm.service;
 
+import com.madcamp.love_algorithm.dto.AutosaveRequestDto;
+import com.madcamp.love_algorithm.dto.AutosaveResponseDto;
+import com.madcamp.love_algorithm.dto.GameStateDto;
+import com.madcamp.love_algorithm.dto.LoadGameResponseDto;
 import com.madcamp.love_algorithm.dto.SaveRequestDto;
 import com.madcamp.love_algorithm.entity.SaveSlot;
 import com.madcamp.love_algorithm.dto.SaveSlotResponseDto;
-import com.madcamp.love_algorithm.entity.User;
+import com.madcamp.love_algorithm.dto.UserProfile;
+import com.madcamp.love_algorithm.repository.SaveSlotJdbcRepository;
 import com.madcamp.love_algorithm.repository.SaveSlotRepository;
 import com.madcamp.love_algorithm.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
@@ -18,64 +26,161 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class SaveService {
+    private static final DateTimeFormatter SAVED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    // FK 부모 행 없음 에러 코드 (ER_NO_REFERENCED_ROW_2 / H2 REFERENTIAL_INTEGRITY_VIOLATED_PARENT_MISSING_1)
+    private static final int MYSQL_NO_REFERENCED_ROW = 1452;
+    private static final int H2_REFERENTIAL_INTEGRITY_PARENT_MISSING = 23506;
+
     private final SaveSlotRepository saveSlotRepository;
+    private final SaveSlotJdbcRepository saveSlotJdbcRepository;
     private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final ProgressWriteBuffer progressWriteBuffer;
+    private final GameStateCodec gameStateCodec;
+    private final AutosaveBuffer autosaveBuffer;
+
+    // true면 삭제 시 deleted_at만 표시 (SaveSlotPurgeJob이 배치로 정리)
+    @Value("${game.save.soft-delete.enabled:false}")
+    private boolean softDeleteEnabled;
 
     @Transactional(readOnly = true)
     public List<SaveSlotResponseDto> getSaveSlots(Long userId) {
-        List<SaveSlot> slots = saveSlotRepository.findByUserIdOrderBySlotNumberAsc(userId);
-
-
-        return slots.stream().map(slot -> SaveSlotResponseDto.builder()
-                .slotNumber(slot.getSlotNumber())
-                .sceneId(slot.getSceneId())
-                .previewText(slot.getPreviewText())
-                .savedAt(slot.getSavedAt() != null ?
-                        slot.getSavedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) :
-                        "시간 정보 없음")
-                .build()
-        ).collect(Collectors.toList());
+        // 목록에 필요한 4개 컬럼만 조회 (SaveSlot 엔티티/게임 상태 blob은 읽지 않음)
+        return saveSlotRepository.findSummariesByUserId(userId).stream()
+                .map(slot -> SaveSlotResponseDto.builder()
+                        .slotNumber(slot.slotNumber())
+                        .sceneId(slot.sceneId())
+                        .previewText(slot.previewText())
+                        .savedAt(slot.savedAt() != null ? slot.savedAt().format(SAVED_AT_FORMAT) : "시간 정보 없음")
+                        .build())
+                .collect(Collectors.toList());
     }
 
-    @Transactional
-    public void saveGame(SaveRequestDto request) {
-        // 1. 저장할 유저가 존재하는지 확인
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다."));
-
-        // 2. 해당 슬롯 번호가 이미 있는지 확인 (있으면 가져오고, 없으면 새로 생성)
-        SaveSlot saveSlot = saveSlotRepository.findByUserIdAndSlotNumber(request.getUserId(), request.getSlotNumber())
-                .orElse(new SaveSlot());
-
-        // 3. 데이터 세팅 (덮어쓰기 포함)
-        saveSlot.setUser(user);
-        saveSlot.setSlotNumber(request.getSlotNumber());
-        saveSlot.setSceneId(request.getSceneId());
-        saveSlot.setPreviewText(request.getPreviewText());
-        saveSlot.setSavedAt(LocalDateTime.now()); // 현재 시간 저장
+    // 저장 (자동 저장/수동 저장이 동시에 와도 슬롯당 한 행)
+    // (user_id, slot_number) 기준 upsert 한 문장이라 유저 조회/기존 슬롯 조회가 필요 없습니다.
+    public void saveGame(Long userId, SaveRequestDto request) {
+        if (userId == null) {
+            throw new RuntimeException("유저를 찾을 수 없습니다.");
+        }
+        // 전체 게임 상태는 바이너리 한 컬럼으로 저장 (sceneId는 목록 표시용으로 따로 둡니다)
+        GameStateDto gameState = request.getGameState();
+        String sceneId = request.getSceneId() != null ? request.getSceneId()
+                : gameState != null ? gameState.getCurrentSceneId() : null;
+
+        try {
+            saveSlotJdbcRepository.upsert(
+                    userId,
+                    request.getSlotNumber(),
+                    sceneId,
+                    request.getPreviewText(),
+                    gameState != null ? gameStateCodec.encode(gameState) : null,
+                    LocalDateTime.now()); // 현재 시간 저장
+        } catch (DataIntegrityViolationException e) {
+            if (isMissingParentRow(e)) {
+                throw new RuntimeException("유저를 찾을 수 없습니다.", e); // user_id FK 위반 (save_slots의 FK는 user_id 하나)
+            }
+            throw e;
+        }
+    }
 
-        saveSlotRepository.save(saveSlot);
+    // FK가 가리키는 부모 행이 없어서 실패했는지 (MySQL 1452, H2 23506)
+    private static boolean isMissingParentRow(DataIntegrityViolationException e) {
+        Throwable cause = e.getMostSpecificCause();
+        if (!(cause instanceof SQLException sqlException)) {
+            return false;
+        }
+        int errorCode = sqlException.getErrorCode();
+        return errorCode == MYSQL_NO_REFERENCED_ROW || errorCode == H2_REFERENTIAL_INTEGRITY_PARENT_MISSING;
     }
 
     // 불러오기
     @Transactional
-    public String loadGame(Long userId, int slotNumber) {
+    public LoadGameResponseDto loadGame(Long userId, int slotNumber) {
         // 1. 해당 유저의 특정 슬롯 세이브 데이터를 찾습니다.
-        SaveSlot saveSlot = saveSlotRepository.findByUserIdAndSlotNumber(userId, slotNumber)
+        SaveSlot saveSlot = saveSlotRepository.findByUserIdAndSlotNumberAndDeletedAtIsNull(userId, slotNumber)
                 .orElseThrow(() -> new RuntimeException("해당 세이브 데이터를 찾을 수 없습니다."));
 
-        // 2. 유저 엔티티를 가져와서 현재 씬(Scene) 위치를 업데이트합니다.
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다."));
+        // 2~3. 현재 씬 위치 갱신 + 저장된 전체 게임 상태 반환
+        return restore(userId, saveSlot.getSceneId(), saveSlot.getGameState());
+    }
 
-        user.setCurrentSceneId(saveSlot.getSceneId());
-        userRepository.save(user); // 변경된 위치 저장
+    // 삭제 (키로 바로 DELETE, 소프트 삭제 모드면 deleted_at만 표시하고 정리 작업이 나중에 지움)
+    public boolean deleteSaveSlot(Long userId, int slotNumber) {
+        int deleted = softDeleteEnabled
+                ? saveSlotJdbcRepository.softDelete(userId, slotNumber, LocalDateTime.now())
+                : saveSlotJdbcRepository.delete(userId, slotNumber);
+        return deleted > 0;
+    }
+
+    // 유저의 세이브 슬롯 전체 삭제, 지운 슬롯 수 반환
+    public int deleteAllSaveSlots(Long userId) {
+        return softDeleteEnabled
+                ? saveSlotJdbcRepository.softDeleteAll(userId, LocalDateTime.now())
+                : saveSlotJdbcRepository.deleteAll(userId);
+    }
+
+    // ==========================================
+    // 자동 저장 (AutosaveBuffer, 메모리에 넣고 DB에는 모아서 반영)
+    // ==========================================
+
+    public AutosaveResponseDto autosave(Long userId, AutosaveRequestDto request) {
+        GameStateDto gameState = request.getGameState();
+        if (gameState == null || gameState.getCurrentSceneId() == null) {
+            throw new RuntimeException("자동 저장할 게임 상태가 없습니다.");
+        }
+        // 없는 유저의 체크포인트가 버퍼에 쌓여 flush 때마다 FK 오류가 나지 않도록 먼저 확인 (프로필 캐시)
+        userProfileCache.find(userId)
+                .orElseThrow(() -> new RuntimeException("유저를 찾을 수 없습니다."));
 
-        // 3. 리액트가 어떤 씬으로 바로 이동해야 하는지 알려주기 위해 sceneId를 반환합니다.
-        return saveSlot.getSceneId();
+        AutosaveBuffer.Checkpoint checkpoint = autosaveBuffer.add(userId,
+                gameState.getCurrentSceneId(), request.getPreviewText(), gameStateCodec.encode(gameState));
+        return toAutosaveResponse(checkpoint);
     }
 
+    public List<AutosaveResponseDto> getAutosaves(Long userId) {
+        return autosaveBuffer.list(userId).stream()
+                .map(SaveService::toAutosaveResponse)
+                .collect(Collectors.toList());
+    }
 
+    // seq가 없으면 가장 최근 체크포인트
+    @Transactional
+    public LoadGameResponseDto loadAutosave(Long userId, Long seq) {
+        AutosaveBuffer.Checkpoint checkpoint = (seq != null ? autosaveBuffer.find(userId, seq) : autosaveBuffer.latest(userId))
+                .orElseThrow(() -> new RuntimeException("해당 자동 저장 데이터를 찾을 수 없습니다."));
+        return restore(userId, checkpoint.sceneId(), checkpoint.gameState());
+    }
 
+    // 불러온 위치로 현재 씬을 옮기고 게임 상태를 풀어서 돌려줍니다.
+    private LoadGameResponseDto restore(Long userId, String sceneId, byte[] encodedState) {
+        // 유저의 현재 씬(Scene) 위치를 업데이트합니다. (UPDATE 한 번, 프로필 캐시는 무효화)
+        if (userRepository.updateCurrentSceneId(userId, sceneId, LocalDateTime.now()) == 0) {
+            throw new RuntimeException("유저를 찾을 수 없습니다.");
+        }
+        userProfileCache.invalidate(userId);
+        progressWriteBuffer.discard(userId); // 대기 중인 예전 진행 위치가 불러온 위치를 덮어쓰지 않도록
+
+        // 저장된 전체 게임 상태 (예전 세이브는 씬 위치만 있음)
+        GameStateDto gameState = encodedState != null
+                ? gameStateCodec.decode(encodedState)
+                : GameStateDto.builder()
+                        .currentSceneId(sceneId)
+                        .history(List.of())
+                        .build();
+
+        return LoadGameResponseDto.builder()
+                .gameState(gameState)
+                .heroName(userProfileCache.find(userId).map(UserProfile::name).orElse(null))
+                .build();
+    }
 
+    private static AutosaveResponseDto toAutosaveResponse(AutosaveBuffer.Checkpoint checkpoint) {
+        return AutosaveResponseDto.builder()
+                .seq(checkpoint.seq())
+                .sceneId(checkpoint.sceneId())
+                .previewText(checkpoint.previewText())
+                .savedAt(checkpoint.savedAt().format(SAVED_AT_FORMAT))
+                .build();
+    }
 }
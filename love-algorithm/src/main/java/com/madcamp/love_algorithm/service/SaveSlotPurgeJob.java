@@ -0,0 +1,50 @@
+package com.madcamp.love_algorithm.service;
+
+import com.madcamp.love_algorithm.repository.SaveSlotJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 소프트 삭제된 세이브 슬롯 정리 작업 (game.save.soft-delete.enabled=true 일 때만)
+// 보관 기간(retention)이 지난 행을 batch-size 개씩 나눠 지워서 save_slots 테이블/인덱스가 계속 커지지 않게 합니다.
+@Component
+public class SaveSlotPurgeJob {
+
+    private final SaveSlotJdbcRepository saveSlotJdbcRepository;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+
+    public SaveSlotPurgeJob(SaveSlotJdbcRepository saveSlotJdbcRepository,
+                            @Value("${game.save.soft-delete.enabled:false}") boolean enabled,
+                            @Value("${game.save.soft-delete.retention:24h}") Duration retention,
+                            @Value("${game.save.soft-delete.purge-batch-size:1000}") int batchSize) {
+        this.saveSlotJdbcRepository = saveSlotJdbcRepository;
+        this.enabled = enabled;
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${game.save.soft-delete.purge-interval-ms:600000}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        int total = 0;
+        int deleted;
+        do {
+            // 배치마다 자동 커밋되는 DELETE 한 문장 (잠금은 배치 하나 동안만)
+            deleted = saveSlotJdbcRepository.purgeDeletedBefore(cutoff, batchSize);
+            total += deleted;
+        } while (deleted == batchSize);
+
+        if (total > 0) {
+            System.out.println(">>> 삭제된 세이브 슬롯 정리 완료: " + total + "건");
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.madcamp.love_algorithm.service;
+
+import com.madcamp.love_algorithm.entity.*;
+import com.madcamp.love_algorithm.repository.OptionRepository;
+import com.madcamp.love_algorithm.repository.SceneRepository;
+import com.madcamp.love_algorithm.repository.ScriptRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+// 시나리오(장면/대사/선택지)는 InitialLoader 이후 바뀌지 않으므로
+// 부팅 시 한 번만 읽어서 불변 객체로 들고 있습니다. (scene 조회 시 DB 쿼리 0회)
+// game.scenario.mapped.enabled=true 이면 대사는 힙 대신 MappedScenarioStore의 매핑 파일에서 읽습니다.
+@Component
+@RequiredArgsConstructor
+public class ScenarioCache {
+
+    private final SceneRepository sceneRepository;
+    private final ScriptRepository scriptRepository;
+    private final OptionRepository optionRepository;
+    private final MappedScenarioStore mappedScenarioStore;
+
+    private volatile Map<String, SceneNode> scenes = Map.of();
+    private volatile List<SceneNode> orderedScenes = List.of(); // 챕터 > 순서 > ID 정렬 (직렬화 순서 고정용)
+    private volatile Map<Long, OptionNode> options = Map.of();
+    private volatile Map<String, List<String>> successors = Map.of(); // 장면 → 다음에 올 수 있는 장면들 (미리 보내기용)
+
+    // CommandLineRunner(InitialLoader)가 모두 끝난 뒤에 실행됩니다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(0)
+    @Transactional(readOnly = true)
+    public void load() {
+        // 1. 쿼리 3번으로 전체 그래프를 읽어옵니다.
+        List<Scene> sceneEntities = sceneRepository.findAll();
+        List<Script> scriptEntities = scriptRepository.findAllOrderBySceneAndIndex();
+        List<Option> optionEntities = optionRepository.findAllWithScores();
+
+        // 2. 장면 ID 기준으로 대사/선택지를 묶습니다.
+        Map<String, List<ScriptNode>> scriptsByScene = new HashMap<>();
+        for (Script script : scriptEntities) {
+            scriptsByScene.computeIfAbsent(script.getScene().getId(), k -> new ArrayList<>())
+                    .add(ScriptNode.from(script));
+        }
+        if (mappedScenarioStore.isEnabled()) {
+            scriptsByScene = mappedScenarioStore.map(scriptsByScene); // 부팅 때 만든 레코드는 여기서 버려집니다.
+        } else {
+            scriptsByScene.replaceAll((sceneId, scripts) -> List.copyOf(scripts));
+        }
+
+        Map<String, List<OptionNode>> optionsByScene = new HashMap<>();
+        Map<Long, OptionNode> optionIndex = new HashMap<>();
+        for (Option option : optionEntities) {
+            OptionNode node = OptionNode.from(option);
+            optionIndex.put(node.id(), node);
+            if (node.sceneId() != null) {
+                optionsByScene.computeIfAbsent(node.sceneId(), k -> new ArrayList<>()).add(node);
+            }
+        }
+
+        // 3. 불변 레코드로 조립
+        Map<String, SceneNode> sceneIndex = new HashMap<>();
+        for (Scene scene : sceneEntities) {
+            sceneIndex.put(scene.getId(), new SceneNode(
+                    scene.getId(),
+                    scene.getChapterId(),
+                    scene.getEventSeq(),
+                    scene.getTitle(),
+                    scene.getDefaultNextSceneId(),
+                    scriptsByScene.getOrDefault(scene.getId(), List.of()),
+                    List.copyOf(optionsByScene.getOrDefault(scene.getId(), List.of()))));
+        }
+
+        // 4. 다음 장면 인접 목록 (defaultNextSceneId 먼저, 그다음 선택지 순서, 중복/없는 장면/자기 자신 제외)
+        Map<String, List<String>> successorIndex = new HashMap<>();
+        for (SceneNode node : sceneIndex.values()) {
+            Set<String> next = new LinkedHashSet<>();
+            next.add(node.defaultNextSceneId());
+            for (OptionNode option : node.options()) {
+                next.add(option.nextSceneId());
+            }
+            next.removeIf(id -> id == null || id.equals(node.id()) || !sceneIndex.containsKey(id));
+            successorIndex.put(node.id(), List.copyOf(next));
+        }
+
+        this.scenes = Map.copyOf(sceneIndex);
+        this.successors = Map.copyOf(successorIndex);
+        this.orderedScenes = sceneIndex.values().stream()
+                .sorted(Comparator.comparing(SceneNode::chapterId, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+                        .thenComparingInt(SceneNode::eventSeq)
+                        .thenComparing(SceneNode::id))
+                .toList();
+        this.options = Map.copyOf(optionIndex);
+
+        System.out.println(">>> ScenarioCache 적재 완료: scenes=" + scenes.size()
+                + ", scripts=" + scriptEntities.size() + ", options=" + options.size());
+    }
+
+    // 대사를 매핑 파일에서 읽는 중인지 (SceneTemplates가 장면 템플릿을 힙에 캐시할지 정할 때 사용)
+    public boolean isScriptsMapped() {
+        return mappedScenarioStore.isEnabled();
+    }
+
+    public Optional<SceneNode> findScene(String sceneId) {
+        return Optional.ofNullable(scenes.get(sceneId));
+    }
+
+    public Optional<OptionNode> findOption(Long optionId) {
+        return Optional.ofNullable(options.get(optionId));
+    }
+
+    // 이 장면 다음에 올 수 있는 장면 ID (적재 때 계산해 둔 목록)
+    public List<String> findSuccessors(String sceneId) {
+        return successors.getOrDefault(sceneId, List.of());
+    }
+
+    public List<SceneNode> getScenes() {
+        return orderedScenes;
+    }
+
+    // ==========================================
+    // 불변 스냅샷 레코드
+    // ==========================================
+
+    public record SceneNode(
+            String id,
+            String chapterId,
+            int eventSeq,
+            String title,
+            String defaultNextSceneId,
+            List<ScriptNode> scripts,
+            List<OptionNode> options) {
+    }
+
+    public record ScriptNode(
+            String id,
+            int scriptIndex,
+            ScriptType type,
+            String speakerId,
+            String content,
+            String backgroundImgId,
+            String backgroundSoundId,
+            String characterImgId,
+            String effectSoundId,
+            String overlayImageId) {
+
+        static ScriptNode from(Script script) {
+            return new ScriptNode(
+                    script.getId(),
+                    script.getScriptIndex(),
+                    script.getType(),
+                    script.getSpeakerId(),
+                    script.getContent(),
+                    script.getBackgroundImgId(),
+                    script.getBackgroundSoundId(),
+                    script.getCharacterImgId(),
+                    script.getEffectSoundId(),
+                    script.getOverlayImageId());
+        }
+    }
+
+    public record OptionNode(
+            Long id,
+            String sceneId,
+            String text,
+            String nextSceneId,
+            List<OptionScoreNode> scores) {
+
+        static OptionNode from(Option option) {
+            List<OptionScoreNode> scores = option.getOptionScores().stream()
+                    .map(os -> new OptionScoreNode(os.getTargetCharacterId(), os.getScore()))
+                    .toList();
+            return new OptionNode(
+                    option.getId(),
+                    option.getScene() != null ? option.getScene().getId() : null,
+                    option.getText(),
+                    option.getNextSceneId(),
+                    scores);
+        }
+    }
+
+    public record OptionScoreNode(String targetCharacterId, int score) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.madcamp.love_algorithm.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// GET /api/script 전체 시나리오를 JsonGenerator로 바로 흘려보냅니다.
+// 엔티티 그래프나 Map<String, Scene>을 만들지 않고 ScenarioCache의 불변 레코드를 순서대로 씁니다.
+@Component
+@RequiredArgsConstructor
+public class ScenarioExportWriter {
+
+    private final ScenarioCache scenarioCache;
+    private final ObjectMapper objectMapper;
+
+    // { "success": true, "data": { "<sceneId>": {...}, ... }, "error": null } 형태 (ApiResponse와 동일)
+    public void writeScripts(OutputStream out) throws IOException {
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 응답 스트림은 서블릿 컨테이너가 닫음
+            gen.writeStartObject();
+            gen.writeBooleanField("success", true);
+            gen.writeFieldName("data");
+            gen.writeStartObject();
+            for (ScenarioCache.SceneNode scene : scenarioCache.getScenes()) {
+                gen.writeFieldName(scene.id());
+                writeScene(gen, scene);
+            }
+            gen.writeEndObject();
+            gen.writeNullField("error");
+            gen.writeEndObject();
+        }
+    }
+
+    // 장면 하나 (기존 Scene 엔티티 직렬화와 같은 필드명 사용)
+    public void writeScene(JsonGenerator gen, ScenarioCache.SceneNode scene) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("id", scene.id());
+        gen.writeStringField("chapterId", scene.chapterId());
+        gen.writeNumberField("eventSeq", scene.eventSeq());
+        gen.writeStringField("title", scene.title());
+        gen.writeStringField("defaultNextSceneId", scene.defaultNextSceneId());
+
+        gen.writeArrayFieldStart("dialogues");
+        for (ScenarioCache.ScriptNode script : scene.scripts()) {
+            gen.writeStartObject();
+            gen.writeStringField("id", script.id());
+            gen.writeNumberField("scriptIndex", script.scriptIndex());
+            gen.writeStringField("type", script.type() != null ? script.type().name() : null);
+            gen.writeStringField("speakerId", script.speakerId());
+            gen.writeStringField("content", script.content());
+            gen.writeStringField("backgroundImgId", script.backgroundImgId());
+            gen.writeStringField("backgroundSoundId", script.backgroundSoundId());
+            gen.writeStringField("characterImgId", script.characterImgId());
+            gen.writeStringField("effectSoundId", script.effectSoundId());
+            gen.writeStringField("overlayImageId", script.overlayImageId());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("options");
+        for (ScenarioCache.OptionNode option : scene.options()) {
+            gen.writeStartObject();
+            gen.writeNumberField("id", option.id());
+            gen.writeStringField("text", option.text());
+            gen.writeStringField("nextSceneId", option.nextSceneId());
+            gen.writeArrayFieldStart("scoreList");
+            for (ScenarioCache.OptionScoreNode score : option.scores()) {
+                gen.writeStartObject();
+                gen.writeStringField("character_id", score.targetCharacterId());
+                gen.writeNumberField("score", score.score());
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+
+        gen.writeEndObject();
+    }
+}
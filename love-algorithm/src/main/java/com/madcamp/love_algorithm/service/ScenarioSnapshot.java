@@ -0,0 +1,187 @@
+package com.madcamp.love_algorithm.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+// 전체 시나리오(/api/script) 응답을 부팅 시 한 번만 직렬화/압축해 두고 ETag로 재사용합니다.
+// 시나리오는 배포 때만 바뀌므로 재방문 클라이언트는 304만 받아 갑니다.
+// 대사를 매핑 파일에서 읽는 중이면(game.scenario.mapped.enabled=true) 힙에는 gzip 본문만 두고,
+// gzip을 못 받는 클라이언트에게는 원본을 요청마다 매핑 영역에서 스트리밍으로 씁니다. (ETag는 같음)
+@Component
+@RequiredArgsConstructor
+public class ScenarioSnapshot {
+
+    private final ScenarioCache scenarioCache;
+    private final ScenarioExportWriter scenarioExportWriter;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    // ScenarioCache(@Order(0))가 적재된 다음에 만듭니다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(1)
+    public void build() {
+        try {
+            // 1. 전체 시나리오 원본(JSON) + gzip 버전
+            ByteArrayOutputStream json = new ByteArrayOutputStream(1 << 16);
+            scenarioExportWriter.writeScripts(json);
+            byte[] identity = json.toByteArray();
+            byte[] gzip = gzip(identity);
+
+            // 2. 장면별 콘텐츠 해시 (getScene ETag 계산용)
+            Map<String, byte[]> sceneHashes = new HashMap<>();
+            for (ScenarioCache.SceneNode scene : scenarioCache.getScenes()) {
+                ByteArrayOutputStream sceneJson = new ByteArrayOutputStream();
+                try (JsonGenerator gen = objectMapper.getFactory().createGenerator(sceneJson, JsonEncoding.UTF8)) {
+                    scenarioExportWriter.writeScene(gen, scene);
+                }
+                sceneHashes.put(scene.id(), sha256(sceneJson.toByteArray()));
+            }
+
+            // 3. 매핑 모드면 원본 사본은 버림 (해시와 gzip을 만든 뒤에는 필요 없음)
+            boolean keepIdentity = !scenarioCache.isScriptsMapped();
+            this.snapshot = new Snapshot(keepIdentity ? identity : null, gzip,
+                    quote(HexFormat.of().formatHex(sha256(identity), 0, 16)), Map.copyOf(sceneHashes));
+
+            System.out.println(">>> ScenarioSnapshot 생성 완료: " + identity.length + " bytes (gzip " + gzip.length
+                    + " bytes), ETag=" + snapshot.etag() + (keepIdentity ? "" : ", 원본은 요청마다 스트리밍"));
+        } catch (IOException e) {
+            throw new UncheckedIOException("시나리오 스냅샷 생성 실패", e);
+        }
+    }
+
+    // 아직 만들어지지 않았으면 null (부팅 직후)
+    public Snapshot get() {
+        return snapshot;
+    }
+
+    // 장면 ETag = 장면 콘텐츠 해시 + 플레이어 이름 (이름 치환 결과가 응답에 들어가므로)
+    public String sceneETag(String sceneId, String userName) {
+        return sceneETag(List.of(sceneId), userName);
+    }
+
+    // 여러 장면을 함께 보내는 응답(미리 보내기 묶음)의 ETag, 들어간 장면 중 하나라도 바뀌면 달라짐
+    public String sceneETag(List<String> sceneIds, String userName) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return null;
+        }
+        MessageDigest digest = newDigest();
+        for (String sceneId : sceneIds) {
+            byte[] hash = current.sceneHashes().get(sceneId);
+            if (hash == null) {
+                return null;
+            }
+            digest.update(hash);
+        }
+        if (userName != null) {
+            digest.update(userName.getBytes(StandardCharsets.UTF_8));
+        }
+        return quote(HexFormat.of().formatHex(digest.digest(), 0, 16));
+    }
+
+    // If-None-Match 헤더에 etag가 포함되어 있는지 ("*", 여러 값, W/ 접두어 허용)
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // identity: 매핑 모드면 null (원본은 ScenarioExportWriter로 스트리밍)
+    public record Snapshot(byte[] identity, byte[] gzip, String etag, Map<String, byte[]> sceneHashes) {
+
+        // gzip 표현의 ETag ("abc" → "abc-gz")
+        public String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gz\"";
+        }
+    }
+
+    // Accept-Encoding에서 gzip을 받는지 (q=0이면 거부로 봄, gzip이 따로 없으면 * 의 q값을 따름)
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQ = null;
+        Double wildcardQ = null;
+        for (String candidate : acceptEncoding.split(",")) {
+            String[] parts = candidate.split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double q = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=") || param.startsWith("Q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0.0; // 잘못된 q값은 받지 않는 것으로
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzipQ = gzipQ == null ? q : Math.max(gzipQ, q);
+            } else if (coding.equals("*")) {
+                wildcardQ = q;
+            }
+        }
+        if (gzipQ != null) {
+            return gzipQ > 0;
+        }
+        return wildcardQ != null && wildcardQ > 0;
+    }
+
+    // ==========================================
+    // Helper Methods
+    // ==========================================
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] sha256(byte[] data) {
+        return newDigest().digest(data);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
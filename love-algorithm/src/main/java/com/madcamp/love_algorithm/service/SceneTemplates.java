@@ -0,0 +1,263 @@
+package com.madcamp.love_algorithm.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.madcamp.love_algorithm.dto.ApiResponse;
+import com.madcamp.love_algorithm.dto.OptionDto;
+import com.madcamp.love_algorithm.dto.SceneResponseDto;
+import com.madcamp.love_algorithm.dto.ScriptResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 장면 응답(JSON) 템플릿
+// 장면마다 처음 요청될 때 한 번만 직렬화해서 "이름 자리"를 기준으로 잘라 둔 바이트 조각으로 보관하고,
+// 이후 요청은 조각 사이에 플레이어 이름(UTF-8)만 끼워 넣어 응답 바이트를 만듭니다. (DTO 생성/치환/직렬화 없음)
+// 템플릿은 SceneResponseDto 부분만 들고 있고, ApiResponse 껍데기(앞/뒤 바이트)는 따로 한 번만 만들어 씌웁니다.
+// 대사를 매핑 파일에서 읽는 중이면(game.scenario.mapped.enabled=true) 템플릿을 캐시하지 않고 요청마다
+// 매핑 영역에서 읽어 만듭니다. 캐시하면 대사가 힙에 한 벌 더 올라가서 매핑 저장소를 쓰는 의미가 없어집니다.
+@Component
+@RequiredArgsConstructor
+public class SceneTemplates {
+
+    // 이름 자리 표시 문자 (유니코드 사용자 영역이라 실제 대사에는 나오지 않음)
+    static final String NAME_SLOT = "\uE000";
+    private static final byte[] NAME_SLOT_UTF8 = NAME_SLOT.getBytes(StandardCharsets.UTF_8);
+
+    // ApiResponse 껍데기를 만들 때 data 자리에 넣는 표시 문자
+    private static final String DATA_SLOT = "\uE001";
+
+    private static final byte[] PREFETCHED_START = ",\"prefetched\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PREFETCHED_END = "]}".getBytes(StandardCharsets.UTF_8);
+
+    private final ScenarioCache scenarioCache;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+    private volatile Envelope envelope;
+
+    // ApiResponse<SceneResponseDto> 모양의 응답 바이트 (장면이 없으면 예외)
+    public byte[] render(String sceneId, String userName) {
+        Template template = template(scenarioCache.findScene(sceneId)
+                .orElseThrow(() -> new RuntimeException("Scene not found")));
+        if (template.segments().length == 1) {
+            return template.whole(); // 이름이 안 들어가는 장면은 그대로 공유 (호출 측에서 수정하지 않음)
+        }
+
+        byte[] name = quote(userName);
+        Envelope envelope = envelope();
+        byte[] out = new byte[envelope.prefix().length + template.length(name) + envelope.suffix().length];
+        int pos = copy(envelope.prefix(), out, 0);
+        pos = template.writeTo(out, pos, name);
+        copy(envelope.suffix(), out, pos);
+        return out;
+    }
+
+    // 다음 장면 미리 보내기 묶음
+    // 요청한 장면의 data 안에 "prefetched": [다음 장면 data, ...] 를 붙입니다.
+    // 고르기(selectBundle)와 조립(assembleBundle)을 나눠 두어서, 호출 측은 고른 장면 ID로 ETag를 먼저 확인하고
+    // 304가 아닐 때만 바이트를 조립할 수 있습니다.
+    public Bundle renderBundle(String sceneId, String userName, int depth, int maxBytes) {
+        List<String> sceneIds = selectBundle(sceneId, userName, depth, maxBytes);
+        return new Bundle(assembleBundle(sceneIds, userName), sceneIds);
+    }
+
+    // 1. 넣을 장면 고르기 (요청한 장면이 첫 번째)
+    // ScenarioCache의 인접 목록을 따라 가까운 장면부터 depth 단계까지 넣고(너비 우선, 이미 고른 장면은 건너뜀),
+    // 합계가 maxBytes를 넘으면 거기서 멈춥니다. 크기만 계산하고 바이트는 만들지 않습니다.
+    public List<String> selectBundle(String sceneId, String userName, int depth, int maxBytes) {
+        template(scenarioCache.findScene(sceneId)
+                .orElseThrow(() -> new RuntimeException("Scene not found")));
+        byte[] name = quote(userName);
+
+        List<String> sceneIds = new ArrayList<>();
+        sceneIds.add(sceneId);
+        Set<String> seen = new HashSet<>(List.of(sceneId));
+        List<String> frontier = List.of(sceneId);
+        int budget = maxBytes;
+        for (int level = 0; level < depth && !frontier.isEmpty(); level++) {
+            List<String> next = new ArrayList<>();
+            for (String id : frontier) {
+                for (String successorId : scenarioCache.findSuccessors(id)) {
+                    if (!seen.add(successorId)) {
+                        continue;
+                    }
+                    Optional<ScenarioCache.SceneNode> successor = scenarioCache.findScene(successorId);
+                    if (successor.isEmpty()) {
+                        continue;
+                    }
+                    int size = template(successor.get()).length(name) + 1; // 구분 쉼표 포함
+                    if (size > budget) {
+                        return sceneIds;
+                    }
+                    budget -= size;
+                    sceneIds.add(successorId);
+                    next.add(successorId);
+                }
+            }
+            frontier = next;
+        }
+        return sceneIds;
+    }
+
+    // 2. 조립: 껍데기 앞 | 요청 장면 data (마지막 '}' 제외) | ,"prefetched":[a,b,...]} | 껍데기 뒤
+    public byte[] assembleBundle(List<String> sceneIds, String userName) {
+        List<Template> templates = new ArrayList<>(sceneIds.size());
+        for (String id : sceneIds) {
+            templates.add(template(scenarioCache.findScene(id)
+                    .orElseThrow(() -> new RuntimeException("Scene not found"))));
+        }
+        Template root = templates.get(0);
+        List<Template> prefetched = templates.subList(1, templates.size());
+        byte[] name = quote(userName);
+
+        Envelope envelope = envelope();
+        int length = envelope.prefix().length + root.length(name) - 1 + PREFETCHED_START.length
+                + PREFETCHED_END.length + envelope.suffix().length;
+        for (Template template : prefetched) {
+            length += template.length(name);
+        }
+        length += Math.max(prefetched.size() - 1, 0);
+
+        byte[] out = new byte[length];
+        int pos = copy(envelope.prefix(), out, 0);
+        pos = root.writeTo(out, pos, name) - 1; // data 객체를 닫는 '}' 자리에 이어 씀
+        pos = copy(PREFETCHED_START, out, pos);
+        for (int i = 0; i < prefetched.size(); i++) {
+            if (i > 0) {
+                out[pos++] = ',';
+            }
+            pos = prefetched.get(i).writeTo(out, pos, name);
+        }
+        pos = copy(PREFETCHED_END, out, pos);
+        copy(envelope.suffix(), out, pos);
+        return out;
+    }
+
+    // 응답 바이트 + 들어간 장면 ID (요청한 장면이 첫 번째, ETag 계산용)
+    public record Bundle(byte[] json, List<String> sceneIds) {
+    }
+
+    // ScenarioCache가 다시 적재됐으면(SceneNode가 바뀌었으면) 템플릿도 새로 만듭니다.
+    private Template template(ScenarioCache.SceneNode scene) {
+        if (scenarioCache.isScriptsMapped()) {
+            return compile(scene); // 매핑 모드: 이번 요청에서만 쓰고 버림
+        }
+        Template template = templates.get(scene.id());
+        if (template == null || template.scene() != scene) {
+            template = compile(scene);
+            templates.put(scene.id(), template);
+        }
+        return template;
+    }
+
+    // 1. 이름 자리에 표시 문자를 넣어 한 번 직렬화하고
+    // 2. 표시 문자 위치에서 잘라 조각 목록으로 만듭니다.
+    private Template compile(ScenarioCache.SceneNode scene) {
+        SceneResponseDto dto = SceneResponseDto.builder()
+                .sceneId(scene.id())
+                .scripts(scene.scripts().stream()
+                        .map(script -> ScriptResponseDto.from(script, NAME_SLOT))
+                        .toList())
+                .options(scene.options().stream()
+                        .map(OptionDto::from)
+                        .toList())
+                .build();
+
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("장면 템플릿 생성 실패: " + scene.id(), e);
+        }
+
+        List<byte[]> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= json.length - NAME_SLOT_UTF8.length; i++) {
+            if (json[i] == NAME_SLOT_UTF8[0] && json[i + 1] == NAME_SLOT_UTF8[1] && json[i + 2] == NAME_SLOT_UTF8[2]) {
+                segments.add(Arrays.copyOfRange(json, start, i));
+                start = i + NAME_SLOT_UTF8.length;
+                i = start - 1;
+            }
+        }
+        segments.add(Arrays.copyOfRange(json, start, json.length));
+
+        // 이름 자리가 없으면 껍데기까지 씌운 응답을 미리 만들어 둡니다.
+        byte[] whole = null;
+        if (segments.size() == 1) {
+            Envelope envelope = envelope();
+            whole = new byte[envelope.prefix().length + json.length + envelope.suffix().length];
+            copy(envelope.suffix(), whole, copy(json, whole, copy(envelope.prefix(), whole, 0)));
+        }
+        return new Template(scene, segments.toArray(new byte[0][]), whole);
+    }
+
+    // ApiResponse.success(data) 직렬화 결과에서 data 값 앞/뒤 바이트
+    private Envelope envelope() {
+        Envelope current = envelope;
+        if (current == null) {
+            try {
+                byte[] json = objectMapper.writeValueAsBytes(ApiResponse.success(DATA_SLOT));
+                byte[] slot = objectMapper.writeValueAsBytes(DATA_SLOT); // 따옴표 포함
+                int at = indexOf(json, slot);
+                current = new Envelope(Arrays.copyOfRange(json, 0, at), Arrays.copyOfRange(json, at + slot.length, json.length));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("응답 껍데기 생성 실패", e);
+            }
+            envelope = current;
+        }
+        return current;
+    }
+
+    // 이름은 JSON 문자열 안에 들어가므로 따옴표/역슬래시 등을 이스케이프해서 넣습니다.
+    private static byte[] quote(String userName) {
+        return JsonStringEncoder.getInstance().quoteAsUTF8(userName != null ? userName : "");
+    }
+
+    private static int copy(byte[] src, byte[] dest, int pos) {
+        System.arraycopy(src, 0, dest, pos, src.length);
+        return pos + src.length;
+    }
+
+    private static int indexOf(byte[] json, byte[] target) {
+        outer:
+        for (int i = 0; i <= json.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (json[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        throw new IllegalStateException("응답 껍데기에서 data 자리를 찾을 수 없습니다.");
+    }
+
+    private record Envelope(byte[] prefix, byte[] suffix) {
+    }
+
+    // segments: SceneResponseDto JSON을 이름 자리에서 자른 조각, whole: 이름 자리가 없을 때 껍데기까지 씌운 응답
+    private record Template(ScenarioCache.SceneNode scene, byte[][] segments, byte[] whole) {
+
+        int length(byte[] name) {
+            int length = name.length * (segments.length - 1);
+            for (byte[] segment : segments) {
+                length += segment.length;
+            }
+            return length;
+        }
+
+        int writeTo(byte[] out, int pos, byte[] name) {
+            for (int i = 0; i < segments.length; i++) {
+                if (i > 0) {
+                    pos = copy(name, out, pos);
+                }
+                pos = copy(segments[i], out, pos);
+            }
+            return pos;
+        }
+    }
+}
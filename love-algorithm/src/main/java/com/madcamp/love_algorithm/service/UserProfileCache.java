@@ -0,0 +1,114 @@
+package com.madcamp.love_algorithm.service;
+
+import com.madcamp.love_algorithm.dto.UserProfile;
+import com.madcamp.love_algorithm.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 유저 프로필(이름/현재 씬/계정) 캐시
+// 장면 조회처럼 이름만 필요한 요청마다 users 테이블을 읽지 않도록 userId 기준으로 잠깐 들고 있습니다.
+// - TTL이 지나면 다시 읽음 (다른 서버에서 바뀐 값도 TTL 안에는 반영됨)
+// - 이름/진행 위치를 바꾸는 쪽에서는 invalidate() 호출
+// - 최대 개수를 넘으면 만료된 것부터, 그래도 넘치면 임의로 비웁니다.
+@Component
+public class UserProfileCache {
+
+    private final UserRepository userRepository;
+    private final long ttlNanos;
+    private final int maxSize;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UserProfileCache(UserRepository userRepository,
+                            @Value("${game.user-cache.ttl:60s}") Duration ttl,
+                            @Value("${game.user-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    // 없는 유저는 캐시하지 않고 빈 값 반환
+    public Optional<UserProfile> find(Long userId) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(userId);
+        if (entry != null && now - entry.loadedAt() < ttlNanos) {
+            hits.increment();
+            return Optional.of(entry.profile());
+        }
+
+        misses.increment();
+        Optional<UserProfile> profile = userRepository.findProfileById(userId);
+        profile.ifPresent(p -> {
+            entries.put(userId, new Entry(p, now));
+            if (entries.size() > maxSize) {
+                evict(now);
+            }
+        });
+        return profile;
+    }
+
+    public UserProfile get(Long userId) {
+        return find(userId).orElseThrow(() -> new RuntimeException("User not found"));
+    }
+
+    // 이름/진행 위치가 바뀌었을 때 (다음 조회 때 DB에서 다시 읽음)
+    // 트랜잭션 안이면 커밋 전에 다른 요청이 옛 값을 다시 캐시할 수 있으므로 커밋 후에 한 번 더 지웁니다.
+    public void invalidate(Long userId) {
+        entries.remove(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.remove(userId);
+                }
+            });
+        }
+    }
+
+    public Stats stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        return new Stats(entries.size(), hitCount, missCount, evictions.sum(),
+                total == 0 ? 0.0 : (double) hitCount / total);
+    }
+
+    private void evict(long now) {
+        // 1. 만료된 항목 정리
+        entries.entrySet().removeIf(e -> {
+            boolean expired = now - e.getValue().loadedAt() >= ttlNanos;
+            if (expired) {
+                evictions.increment();
+            }
+            return expired;
+        });
+
+        // 2. 그래도 넘치면 최대치의 90%까지 비움 (매번 한 개씩 지우지 않도록 여유를 둠)
+        Iterator<Long> it = entries.keySet().iterator();
+        int target = maxSize - maxSize / 10;
+        while (entries.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private record Entry(UserProfile profile, long loadedAt) {
+    }
+
+    public record Stats(int size, long hits, long misses, long evictions, double hitRate) {
+    }
+}
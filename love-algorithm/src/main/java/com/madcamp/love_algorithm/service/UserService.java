@@ -1,30 +1,64 @@
 package com.madcamp.love_algorithm.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.madcamp.love_algorithm.dto.AuthResponseDto;
-import com.madcamp.love_algorithm.entity.User;
-import com.madcamp.love_algorithm.repository.UserRepository;
+import com.madcamp.love_algorithm.dto.GameStateDto;
+import com.madcamp.love_algorithm.dto.ProgressRequestDto;
+import com.madcamp.love_algorithm.dto.UserProfile;
+import com.madcamp.love_algorithm.repository.UserProgressJdbcRepository.Progress;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
-    private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final ProgressWriteBuffer progressWriteBuffer;
+    private final ObjectMapper objectMapper;
 
-    @Transactional(readOnly = true)
     public AuthResponseDto getMyInfo(Long userId) {
-        User user = userRepository.findById(userId)
+        UserProfile profile = userProfileCache.find(userId)
                 .orElseThrow(() -> new RuntimeException("해당 유저를 찾을 수 없습니다."));
 
+        // 아직 DB에 반영 안 된 진행 위치가 있으면 그쪽이 최신입니다.
+        Progress pending = progressWriteBuffer.peek(userId);
+        String currentSceneId = pending != null ? pending.currentSceneId() : profile.currentSceneId();
+
         // 기존에 만든 AuthResponseDto를 재활용하여 필요한 정보를 담아 보냅니다.
         return AuthResponseDto.builder()
-                .accountId(user.getAccount().getId())
-                .userId(user.getId())
-                .email(user.getAccount().getEmail())
-                .characterName(user.getName())
-                .currentSceneId(user.getCurrentSceneId())
+                .accountId(profile.accountId())
+                .userId(profile.userId())
+                .email(profile.email())
+                .characterName(profile.name())
+                .currentSceneId(currentSceneId)
                 .build();
     }
-}
\ No newline at end of file
+
+    // 진행 상황 기록 (메모리에 모았다가 주기적으로 반영, finalFlush면 바로 반영)
+    public void updateProgress(Long userId, ProgressRequestDto request, boolean finalFlush) {
+        GameStateDto state = request.getGameState();
+        if (state == null || state.getCurrentSceneId() == null) {
+            throw new RuntimeException("진행 상황(gameState.currentSceneId)이 없습니다.");
+        }
+        userProfileCache.find(userId)
+                .orElseThrow(() -> new RuntimeException("해당 유저를 찾을 수 없습니다."));
+
+        String visitedScenes;
+        try {
+            visitedScenes = objectMapper.writeValueAsString(state.getHistory() != null ? state.getHistory() : List.of());
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("방문 기록을 저장할 수 없습니다.", e);
+        }
+
+        progressWriteBuffer.record(userId, new Progress(
+                state.getCurrentSceneId(), state.getCurrentDialogueIndex(), visitedScenes, LocalDateTime.now()));
+        if (finalFlush) {
+            progressWriteBuffer.flushUser(userId);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.madcamp.love_algorithm.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+// 기준: 톰캣 플랫폼 스레드 풀 (기본 200개)
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadLoadTest extends SceneChoiceLoadTest {
+
+    @Override
+    protected String mode() {
+        return "platform threads";
+    }
+}
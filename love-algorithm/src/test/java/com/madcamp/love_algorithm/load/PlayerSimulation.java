@@ -0,0 +1,266 @@
+package com.madcamp.love_algorithm.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.madcamp.love_algorithm.service.ScenarioCache;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가상 플레이어 시뮬레이터 (./gradlew simulatePlayers -Dsim.players=500 -Dsim.duration=60s)
+// 인메모리 DB(H2)로 띄운 서버에 플레이어 N명이 실제 시나리오 그래프를 따라 플레이합니다.
+//   1. 회원가입 → 로그인 → 캐릭터 생성 (이후 요청은 액세스 토큰으로)
+//   2. 장면 조회 → 선택지가 있으면 무작위로 골라 선택, 없으면 defaultNextSceneId로 이동
+//      (챕터가 끝나면 무작위 챕터의 첫 장면부터, 그래서 선택지가 있는 2주차/4주차까지 돌게 됨)
+//   3. save-every 장면마다 무작위 슬롯에 저장, 그중 일부는 저장했던 슬롯을 불러와서 그 위치부터 계속
+// 끝나면 엔드포인트별 요청 수/처리량/지연 시간(p50, p95, p99, max)을 ">>> [시뮬레이션]" 로그로 출력합니다.
+// 새 챕터를 올리기 전에 돌려서 노드 수를 잡는 용도입니다.
+@Tag("simulation")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PlayerSimulation {
+
+    private static final int PLAYERS = Integer.getInteger("sim.players", 100);
+    private static final Duration DURATION = Duration.parse("PT" + System.getProperty("sim.duration", "30s"));
+    private static final Duration THINK_TIME = Duration.parse("PT" + System.getProperty("sim.think-time", "0s"));
+    private static final int SAVE_EVERY = Integer.getInteger("sim.save-every", 5);
+    private static final double LOAD_RATIO = Double.parseDouble(System.getProperty("sim.load-ratio", "0.3"));
+    private static final int SLOTS = 3;
+    private static final String START_SCENE_ID = "chapter1_scene1";
+    private static final String OPTION_ENDPOINT = "POST /api/script/option/{optionId}";
+
+    @LocalServerPort int port;
+    @Autowired ScenarioCache scenarioCache;
+    @Autowired ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> errors = new ConcurrentHashMap<>();
+
+    @Test
+    void simulatePlayers() throws Exception {
+        // 선택지가 하나도 없으면 선택 API를 한 번도 안 부르므로 측정 의미가 없음
+        if (scenarioCache.getScenes().stream().allMatch(s -> s.options().isEmpty())) {
+            throw new IllegalStateException("선택지가 있는 장면이 없습니다. scenario/*.jsonl을 확인하세요.");
+        }
+        String startSceneId = scenarioCache.findScene(START_SCENE_ID).isPresent()
+                ? START_SCENE_ID
+                : scenarioCache.getScenes().get(0).id();
+        List<String> chapterStarts = chapterStartSceneIds();
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        long deadline = System.nanoTime() + DURATION.toNanos();
+
+        System.out.println(">>> [시뮬레이션] 시작: players=" + PLAYERS + ", duration=" + DURATION
+                + ", start=" + startSceneId + ", chapters=" + chapterStarts);
+        long startedAt = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> players = new ArrayList<>();
+            for (int i = 0; i < PLAYERS; i++) {
+                String email = "sim-" + runId + "-" + i + "@sim.local";
+                players.add(executor.submit(() -> {
+                    play(email, startSceneId, chapterStarts, deadline);
+                    return null;
+                }));
+            }
+            for (Future<?> player : players) {
+                player.get();
+            }
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+        report(seconds);
+        int totalErrors = errors.values().stream().mapToInt(AtomicInteger::get).sum();
+        assertThat(totalErrors).isZero();
+        assertThat(latencies.get(OPTION_ENDPOINT)).as("선택지 API 호출").isNotEmpty();
+    }
+
+    // 챕터마다 첫 장면 (이벤트 순서가 가장 빠른 장면, 같으면 ID 순)
+    private List<String> chapterStartSceneIds() {
+        Map<String, ScenarioCache.SceneNode> starts = new TreeMap<>();
+        Comparator<ScenarioCache.SceneNode> order = Comparator.comparingInt(ScenarioCache.SceneNode::eventSeq)
+                .thenComparing(ScenarioCache.SceneNode::id);
+        for (ScenarioCache.SceneNode scene : scenarioCache.getScenes()) {
+            starts.merge(scene.chapterId(), scene, (a, b) -> order.compare(a, b) <= 0 ? a : b);
+        }
+        return starts.values().stream().map(ScenarioCache.SceneNode::id).toList();
+    }
+
+    // 플레이어 한 명
+    private void play(String email, String startSceneId, List<String> chapterStarts, long deadline) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        // 1. 가입/로그인/캐릭터 생성
+        Map<String, String> credentials = Map.of("email", email, "password", "sim-password");
+        if (call("POST /api/auth/register", post("/api/auth/register", credentials, null)) == null) {
+            return;
+        }
+        JsonNode login = call("POST /api/auth/login", post("/api/auth/login", credentials, null));
+        if (login == null) {
+            return;
+        }
+        JsonNode character = call("POST /api/auth/character",
+                post("/api/auth/character", Map.of("name", "플레이어"), login.path("token").asText()));
+        if (character == null) {
+            return;
+        }
+        String token = character.path("token").asText();
+
+        // 2~3. 시나리오 진행 + 저장/불러오기
+        String sceneId = startSceneId;
+        Deque<String> history = new ArrayDeque<>();
+        Set<Integer> savedSlots = new HashSet<>();
+        int scenesSeen = 0;
+
+        while (System.nanoTime() < deadline) {
+            JsonNode scene = call("GET /api/script/scene/{sceneId}", get("/api/script/scene/" + sceneId, token));
+            if (scene == null) {
+                return;
+            }
+            history.addLast(sceneId);
+            if (history.size() > 20) {
+                history.removeFirst();
+            }
+            think();
+
+            String nextSceneId;
+            JsonNode options = scene.path("options");
+            if (options.isArray() && !options.isEmpty()) {
+                long optionId = options.get(random.nextInt(options.size())).path("id").asLong();
+                JsonNode next = call(OPTION_ENDPOINT,
+                        post("/api/script/option/" + optionId, null, token));
+                if (next == null) {
+                    return;
+                }
+                nextSceneId = next.isNull() ? null : next.asText();
+            } else {
+                nextSceneId = scenarioCache.findScene(sceneId)
+                        .map(ScenarioCache.SceneNode::defaultNextSceneId)
+                        .orElse(null);
+            }
+
+            if (++scenesSeen % SAVE_EVERY == 0) {
+                int slot = 1 + random.nextInt(SLOTS);
+                Map<String, Object> gameState = new LinkedHashMap<>();
+                gameState.put("currentSceneId", sceneId);
+                gameState.put("currentDialogueIndex", 0);
+                gameState.put("history", new ArrayList<>(history));
+                if (call("POST /api/save/slots", post("/api/save/slots",
+                        Map.of("slotNumber", slot, "previewText", "시뮬레이션 " + sceneId, "gameState", gameState),
+                        token)) != null) {
+                    savedSlots.add(slot);
+                }
+
+                if (!savedSlots.isEmpty() && random.nextDouble() < LOAD_RATIO) {
+                    int loadSlot = new ArrayList<>(savedSlots).get(random.nextInt(savedSlots.size()));
+                    JsonNode loaded = call("GET /api/save/slots/{slotNumber}", get("/api/save/slots/" + loadSlot, token));
+                    if (loaded != null && loaded.path("gameState").hasNonNull("currentSceneId")) {
+                        nextSceneId = loaded.path("gameState").path("currentSceneId").asText();
+                    }
+                }
+            }
+
+            // 엔딩(다음 장면 없음)이거나 데이터에 없는 장면이면 무작위 챕터의 첫 장면부터 다시
+            sceneId = nextSceneId != null && scenarioCache.findScene(nextSceneId).isPresent()
+                    ? nextSceneId
+                    : chapterStarts.get(random.nextInt(chapterStarts.size()));
+        }
+    }
+
+    // 요청 실행 + 지연 시간 기록, 성공하면 ApiResponse의 data (실패하면 null)
+    private JsonNode call(String endpoint, HttpRequest request) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            latencies.computeIfAbsent(endpoint, k -> new ConcurrentLinkedQueue<>()).add(System.nanoTime() - start);
+            JsonNode body = response.body().length > 0 ? objectMapper.readTree(response.body()) : null;
+            if (response.statusCode() != 200 || body == null || !body.path("success").asBoolean()) {
+                fail(endpoint, response.statusCode() + " " + (body != null ? body.path("error").asText() : ""));
+                return null;
+            }
+            return body.path("data");
+        } catch (Exception e) {
+            fail(endpoint, e.toString());
+            return null;
+        }
+    }
+
+    private void fail(String endpoint, String reason) {
+        if (errors.computeIfAbsent(endpoint, k -> new AtomicInteger()).getAndIncrement() < 3) {
+            System.out.println(">>> [시뮬레이션] 실패: " + endpoint + " → " + reason);
+        }
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, Object body, String token) {
+        try {
+            return request(path, token)
+                    .header("Content-Type", "application/json")
+                    .POST(body != null
+                            ? HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))
+                            : HttpRequest.BodyPublishers.noBody())
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private static void think() throws InterruptedException {
+        if (!THINK_TIME.isZero()) {
+            Thread.sleep(THINK_TIME.toMillis());
+        }
+    }
+
+    private void report(double seconds) {
+        System.out.println(">>> [시뮬레이션] 결과 (" + Math.round(seconds) + "s)");
+        System.out.println(String.format(">>> %-36s %8s %8s %8s %8s %8s %8s %7s",
+                "endpoint", "requests", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)", "errors"));
+        new TreeMap<>(latencies).forEach((endpoint, queue) -> {
+            long[] sorted = queue.stream().mapToLong(Long::longValue).sorted().toArray();
+            System.out.println(String.format(">>> %-36s %8d %8.1f %8.1f %8.1f %8.1f %8.1f %7d",
+                    endpoint, sorted.length, sorted.length / seconds,
+                    millis(sorted, 0.50), millis(sorted, 0.95), millis(sorted, 0.99), millis(sorted, 1.0),
+                    errors.getOrDefault(endpoint, new AtomicInteger()).get()));
+        });
+    }
+
+    private static double millis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1e6;
+    }
+}
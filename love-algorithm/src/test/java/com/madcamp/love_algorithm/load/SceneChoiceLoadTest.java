@@ -0,0 +1,143 @@
+package com.madcamp.love_algorithm.load;
+
+import com.madcamp.love_algorithm.entity.User;
+import com.madcamp.love_algorithm.repository.UserRepository;
+import com.madcamp.love_algorithm.security.JwtTokenService;
+import com.madcamp.love_algorithm.service.ScenarioCache;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 장면 조회 + 선택지 선택 부하 테스트 (./gradlew loadTest, 기본 test 작업에서는 제외)
+// PlatformThreadLoadTest(기존 톰캣 스레드 풀)와 VirtualThreadLoadTest(가상 스레드 모드)를 같은 조건으로 돌려
+// 처리량/지연 시간을 ">>> [부하]" 로그로 비교합니다.
+// 클라이언트 하나는 장면 GET → 선택지 POST 를 반복합니다. (유저 수만큼 동시에, 유저마다 발급한 액세스 토큰으로)
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+abstract class SceneChoiceLoadTest {
+
+    private static final int CLIENTS = 400;
+    private static final Duration WARMUP = Duration.ofSeconds(3);
+    private static final Duration DURATION = Duration.ofSeconds(15);
+
+    @LocalServerPort int port;
+    @Autowired ScenarioCache scenarioCache;
+    @Autowired UserRepository userRepository;
+    @Autowired JwtTokenService jwtTokenService;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    protected abstract String mode();
+
+    @Test
+    void sceneAndChoice() throws Exception {
+        // 점수가 붙은 선택지가 있는 첫 장면 (InitialLoader가 적재한 chapter4 자리 선택, 호감도 쓰기까지 타도록)
+        ScenarioCache.SceneNode scene = scenarioCache.getScenes().stream()
+                .sorted(Comparator.comparing(ScenarioCache.SceneNode::id))
+                .filter(s -> s.options().stream().anyMatch(o -> !o.scores().isEmpty()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException(
+                        "점수가 붙은 선택지가 있는 장면이 없습니다. scenario/*.jsonl을 확인하세요."));
+        Long optionId = scene.options().stream()
+                .filter(o -> !o.scores().isEmpty())
+                .findFirst().orElseThrow().id();
+
+        // 로그인 왕복은 측정 대상이 아니므로 토큰은 직접 발급합니다. (장면/선택지 API는 uid만 사용)
+        List<String> tokens = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            Long userId = userRepository.save(User.builder()
+                    .name("load" + i)
+                    .createdAt(LocalDateTime.now())
+                    .build()).getId();
+            tokens.add(jwtTokenService.issue(userId, userId));
+        }
+
+        run(tokens, scene.id(), optionId, WARMUP);
+        Result result = run(tokens, scene.id(), optionId, DURATION);
+
+        System.out.println(">>> [부하] " + mode() + ": clients=" + CLIENTS
+                + ", requests=" + result.latenciesNanos().size()
+                + ", errors=" + result.errors()
+                + ", throughput=" + Math.round(result.latenciesNanos().size() / (double) DURATION.toSeconds()) + "/s"
+                + ", p50=" + percentileMillis(result.latenciesNanos(), 0.50) + "ms"
+                + ", p99=" + percentileMillis(result.latenciesNanos(), 0.99) + "ms");
+        assertThat(result.errors()).isZero();
+    }
+
+    private Result run(List<String> tokens, String sceneId, Long optionId, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicInteger errors = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<Long>>> clients = new ArrayList<>();
+            for (String token : tokens) {
+                clients.add(executor.submit(() -> {
+                    List<Long> latencies = new ArrayList<>();
+                    HttpRequest getScene = HttpRequest.newBuilder(uri("/api/script/scene/" + sceneId))
+                            .header("Authorization", "Bearer " + token)
+                            .GET().build();
+                    HttpRequest selectOption = HttpRequest.newBuilder(uri("/api/script/option/" + optionId))
+                            .header("Authorization", "Bearer " + token)
+                            .POST(HttpRequest.BodyPublishers.noBody()).build();
+
+                    while (System.nanoTime() < deadline) {
+                        for (HttpRequest request : List.of(getScene, selectOption)) {
+                            long start = System.nanoTime();
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            latencies.add(System.nanoTime() - start);
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                        }
+                    }
+                    return latencies;
+                }));
+            }
+
+            List<Long> all = new ArrayList<>();
+            for (Future<List<Long>> latencies : clients) {
+                all.addAll(latencies.get());
+            }
+            return new Result(all, errors.get());
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static long percentileMillis(List<Long> latenciesNanos, double percentile) {
+        if (latenciesNanos.isEmpty()) {
+            return 0;
+        }
+        List<Long> sorted = new ArrayList<>(latenciesNanos);
+        Collections.sort(sorted);
+        int index = (int) Math.min(sorted.size() - 1, Math.ceil(percentile * sorted.size()) - 1);
+        return Duration.ofNanos(sorted.get(Math.max(index, 0))).toMillis();
+    }
+
+    private record Result(List<Long> latenciesNanos, int errors) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.madcamp.love_algorithm.load;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가상 스레드 모드 + 부하 중 캐리어 스레드 고정(pinning) 감지
+// JFR jdk.VirtualThreadPinned 이벤트(기본 20ms 이상 고정)를 모아서, 우리 코드(com.madcamp)가 스택에 있는 것이 하나라도 있으면 실패합니다.
+// 드라이버/라이브러리 안에서만 생긴 고정은 로그로만 남깁니다.
+@TestPropertySource(properties = "spring.threads.virtual.enabled=true")
+class VirtualThreadLoadTest extends SceneChoiceLoadTest {
+
+    private final List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+    private RecordingStream recording;
+
+    @Override
+    protected String mode() {
+        return "virtual threads";
+    }
+
+    @BeforeEach
+    void startPinningRecording() {
+        recording = new RecordingStream();
+        recording.enable("jdk.VirtualThreadPinned").withStackTrace().withThreshold(Duration.ofMillis(20));
+        recording.onEvent("jdk.VirtualThreadPinned", pinned::add);
+        recording.startAsync();
+    }
+
+    @AfterEach
+    void assertNoPinningInOurCode() {
+        recording.stop();
+        recording.close();
+
+        List<RecordedEvent> ours = pinned.stream().filter(VirtualThreadLoadTest::inOurCode).toList();
+        System.out.println(">>> [부하] pinning events=" + pinned.size() + " (우리 코드 " + ours.size() + ")");
+        ours.forEach(event -> System.out.println(">>> [pinning] " + event.getStackTrace()));
+        assertThat(ours).isEmpty();
+    }
+
+    private static boolean inOurCode(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return false;
+        }
+        for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+            if (frame.getMethod().getType().getName().startsWith("com.madcamp.")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,114 @@
+package com.madcamp.love_algorithm.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 서명/헤더/만료/형식이 하나라도 어긋난 토큰은 모두 빈 값으로 거절되는지 확인합니다.
+class JwtTokenServiceTest {
+
+    private static final String SECRET = "test-only-secret-0123456789-abcdefghijklmnop";
+    private static final String HEADER = base64Url("{\"alg\":\"HS256\",\"typ\":\"JWT\"}");
+
+    private final JwtTokenService service = new JwtTokenService(new ObjectMapper(), SECRET, Duration.ofMinutes(15));
+
+    @Test
+    void issuedTokenVerifies() {
+        assertThat(service.verify(service.issue(1L, 2L))).contains(new AuthPrincipal(1L, 2L));
+        assertThat(service.verify(service.issue(1L, null))).contains(new AuthPrincipal(1L, null));
+    }
+
+    @Test
+    void tamperedSignatureIsRejected() {
+        String[] parts = service.issue(1L, 2L).split("\\.");
+        char first = parts[2].charAt(0);
+        String signature = (first == 'A' ? 'B' : 'A') + parts[2].substring(1); // 첫 글자는 패딩 비트가 없어서 바이트가 바뀜
+
+        assertThat(service.verify(parts[0] + "." + parts[1] + "." + signature)).isEmpty();
+    }
+
+    @Test
+    void tamperedPayloadIsRejected() {
+        String[] parts = service.issue(1L, 2L).split("\\.");
+        String payload = base64Url("{\"sub\":\"1\",\"uid\":999,\"iat\":0,\"exp\":" + Long.MAX_VALUE / 2 + "}");
+
+        assertThat(service.verify(parts[0] + "." + payload + "." + parts[2])).isEmpty();
+    }
+
+    @Test
+    void swappedHeaderIsRejected() {
+        String[] parts = service.issue(1L, 2L).split("\\.");
+        String none = base64Url("{\"alg\":\"none\",\"typ\":\"JWT\"}");
+        String hs512 = base64Url("{\"alg\":\"HS512\",\"typ\":\"JWT\"}");
+
+        assertThat(service.verify(none + "." + parts[1] + ".")).isEmpty();
+        assertThat(service.verify(hs512 + "." + parts[1] + "." + parts[2])).isEmpty();
+        // 헤더를 바꾼 뒤 같은 비밀 키로 다시 서명해도 우리가 발급한 헤더가 아니면 거절
+        assertThat(service.verify(signed(hs512, parts[1]))).isEmpty();
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        JwtTokenService expired = new JwtTokenService(new ObjectMapper(), SECRET, Duration.ofSeconds(-1));
+        assertThat(service.verify(expired.issue(1L, 2L))).isEmpty();
+
+        long past = Instant.now().getEpochSecond() - 60;
+        assertThat(service.verify(signed(HEADER, base64Url("{\"sub\":\"1\",\"iat\":0,\"exp\":" + past + "}"))))
+                .isEmpty();
+    }
+
+    @Test
+    void tokenFromAnotherSecretIsRejected() {
+        JwtTokenService other = new JwtTokenService(new ObjectMapper(),
+                "another-secret-0123456789-abcdefghijklmnop", Duration.ofMinutes(15));
+
+        assertThat(service.verify(other.issue(1L, 2L))).isEmpty();
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        long future = Instant.now().getEpochSecond() + 600;
+
+        // 구조가 깨진 토큰
+        assertThat(service.verify("")).isEmpty();
+        assertThat(service.verify("abc")).isEmpty();
+        assertThat(service.verify(HEADER + ".e30")).isEmpty();
+        assertThat(service.verify(service.issue(1L, 2L) + ".extra")).isEmpty();
+        assertThat(service.verify(HEADER + ".e30.!!!")).isEmpty();
+
+        // 서명은 맞지만 내용이 깨진 토큰 (JSON 아님, 필수 claim 없음, 타입이 다름, base64 아님)
+        assertThat(service.verify(signed(HEADER, base64Url("not json")))).isEmpty();
+        assertThat(service.verify(signed(HEADER, base64Url("{\"sub\":\"1\"}")))).isEmpty();
+        assertThat(service.verify(signed(HEADER, base64Url("{\"exp\":" + future + "}")))).isEmpty();
+        assertThat(service.verify(signed(HEADER, base64Url("{\"sub\":1,\"exp\":" + future + "}")))).isEmpty();
+        assertThat(service.verify(signed(HEADER, base64Url("{\"sub\":\"x\",\"exp\":" + future + "}")))).isEmpty();
+        assertThat(service.verify(signed(HEADER, base64Url("{\"sub\":\"1\",\"uid\":\"2\",\"exp\":" + future + "}"))))
+                .isEmpty();
+        assertThat(service.verify(signed(HEADER, "***"))).isEmpty();
+    }
+
+    // 테스트용 비밀 키로 직접 서명한 토큰
+    private static String signed(String header, String payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            String signingInput = header + "." + payload;
+            byte[] signature = mac.doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String base64Url(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
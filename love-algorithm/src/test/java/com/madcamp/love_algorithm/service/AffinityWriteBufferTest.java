@@ -0,0 +1,114 @@
+package com.madcamp.love_algorithm.service;
+
+import com.madcamp.love_algorithm.repository.UserAffinityJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// flush 실패 시 값 보존과 재시도 한도, flush 도중 다른 유저 읽기가 기다리지 않는지 확인합니다.
+class AffinityWriteBufferTest {
+
+    private final UserAffinityJdbcRepository repository = mock(UserAffinityJdbcRepository.class);
+    private final AffinityWriteBuffer buffer =
+            new AffinityWriteBuffer(repository, mock(PlatformTransactionManager.class), true, 3);
+
+    @Test
+    void failedFlushKeepsDeltasForNextRound() {
+        doThrow(new RuntimeException("DB down")).when(repository).addScores(anyMap());
+        doThrow(new RuntimeException("DB down")).when(repository).addScores(anyLong(), anyMap());
+
+        buffer.add(1L, Map.of("dohee", 3));
+        buffer.flush();
+        buffer.add(1L, Map.of("dohee", 2));
+
+        assertThat(buffer.readAll(1L, Map::of)).containsEntry("dohee", 5);
+
+        reset(repository);
+        buffer.flush();
+        verify(repository).addScores(Map.of(1L, Map.of("dohee", 5)));
+        assertThat(buffer.readAll(1L, Map::of)).isEmpty();
+    }
+
+    @Test
+    void userIsDroppedAfterMaxAttempts() {
+        doThrow(new RuntimeException("DB down")).when(repository).addScores(anyMap());
+        doThrow(new RuntimeException("DB down")).when(repository).addScores(eq(1L), anyMap());
+
+        buffer.add(1L, Map.of("dohee", 3));
+        buffer.add(2L, Map.of("sera", 1));
+        buffer.flush();
+        buffer.flush();
+        assertThat(buffer.readAll(1L, Map::of)).containsEntry("dohee", 3);
+
+        buffer.flush(); // 세 번째 실패 → 버림
+        assertThat(buffer.readAll(1L, Map::of)).isEmpty();
+        verify(repository, times(3)).addScores(eq(1L), anyMap());
+        verify(repository).addScores(2L, Map.of("sera", 1));
+    }
+
+    @Test
+    void constraintViolationIsDroppedWithoutRetry() {
+        doThrow(new DataIntegrityViolationException("fk")).when(repository).addScores(anyMap());
+        doThrow(new DataIntegrityViolationException("fk")).when(repository).addScores(anyLong(), anyMap());
+
+        buffer.add(1L, Map.of("dohee", 3));
+        buffer.flush();
+
+        assertThat(buffer.readAll(1L, Map::of)).isEmpty();
+        buffer.flush();
+        verify(repository, times(1)).addScores(anyLong(), anyMap());
+    }
+
+    @Test
+    void drainRetriesBeforeGivingUp() {
+        doThrow(new RuntimeException("DB down")).doNothing().when(repository).addScores(anyMap());
+        doThrow(new RuntimeException("DB down")).when(repository).addScores(anyLong(), anyMap());
+
+        buffer.add(1L, Map.of("dohee", 3));
+        buffer.drain();
+
+        // 첫 시도는 실패, 종료 중 바로 다시 시도해서 반영
+        verify(repository, times(2)).addScores(Map.of(1L, Map.of("dohee", 3)));
+        assertThat(buffer.readAll(1L, Map::of)).isEmpty();
+    }
+
+    @Test
+    void readsOfOtherUsersDoNotWaitForFlush() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return null;
+        }).when(repository).addScores(anyMap());
+
+        buffer.add(1L, Map.of("dohee", 3));
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(buffer::flush);
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            // 다른 유저는 DB 값을 바로 읽고
+            assertThat(CompletableFuture.supplyAsync(() -> buffer.read(2L, "dohee", () -> 7))
+                    .get(1, TimeUnit.SECONDS)).isEqualTo(7);
+
+            // 쓰는 중인 유저는 커밋이 끝날 때까지 기다렸다가 DB 값(이제 반영됨)만 봅니다. (이중 계산 없음)
+            CompletableFuture<Integer> own = CompletableFuture.supplyAsync(() -> buffer.read(1L, "dohee", () -> 3));
+            Thread.sleep(100);
+            assertThat(own).isNotDone();
+            release.countDown();
+            assertThat(own.get(5, TimeUnit.SECONDS)).isEqualTo(3);
+        } finally {
+            release.countDown();
+            flush.get(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.madcamp.love_algorithm.service;
+
+import com.madcamp.love_algorithm.repository.AutosaveJdbcRepository;
+import com.madcamp.love_algorithm.repository.AutosaveJdbcRepository.Row;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 링 덮어쓰기, flush 실패 후 재시도와 재시도 한도, 메모리에서 내린 링의 DB 복구를 확인합니다.
+class AutosaveBufferTest {
+
+    private final AutosaveJdbcRepository repository = mock(AutosaveJdbcRepository.class);
+
+    // (user_id, ring_index) -> 행, upsert처럼 덮어씀
+    private final Map<String, Row> stored = new HashMap<>();
+    private boolean failWrites;
+    private Long failingUser; // 이 유저의 행이 들어 있으면 실패
+
+    @BeforeEach
+    void setUp() {
+        doAnswer(invocation -> {
+            List<Row> rows = invocation.getArgument(0);
+            if (failWrites || rows.stream().anyMatch(row -> row.userId().equals(failingUser))) {
+                throw new RuntimeException("DB down");
+            }
+            rows.forEach(row -> stored.put(row.userId() + "#" + row.ringIndex(), row));
+            return null;
+        }).when(repository).upsertAll(anyList());
+        when(repository.findByUser(anyLong())).thenAnswer(invocation -> {
+            Long userId = invocation.getArgument(0);
+            return stored.values().stream()
+                    .filter(row -> row.userId().equals(userId))
+                    .sorted(Comparator.comparingLong(Row::seq))
+                    .toList();
+        });
+    }
+
+    @Test
+    void ringWrapsAroundKeepingNewestCheckpoints() {
+        AutosaveBuffer buffer = buffer(3, 100);
+
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(1L, "s" + i, "대사 " + i, new byte[]{(byte) i});
+        }
+
+        assertThat(buffer.list(1L)).extracting(AutosaveBuffer.Checkpoint::seq).containsExactly(5L, 4L, 3L);
+        buffer.flush();
+        assertThat(stored.values()).extracting(Row::seq).containsExactlyInAnyOrder(3L, 4L, 5L);
+    }
+
+    @Test
+    void failedFlushIsRetriedWithNewestValues() {
+        AutosaveBuffer buffer = buffer(3, 100);
+
+        failWrites = true;
+        buffer.add(1L, "s1", "첫 번째", new byte[0]);
+        buffer.flush();
+        assertThat(stored).isEmpty();
+
+        buffer.add(1L, "s2", "두 번째", new byte[0]);
+        failWrites = false;
+        buffer.flush();
+
+        assertThat(stored.values()).extracting(Row::sceneId).containsExactlyInAnyOrder("s1", "s2");
+        buffer.flush(); // 이미 다 반영됐으면 더 쓰지 않음
+        verify(repository, times(2)).upsertAll(anyList());
+    }
+
+    @Test
+    void failingUserDoesNotBlockOthersAndIsGivenUp() {
+        AutosaveBuffer buffer = buffer(3, 100);
+
+        failingUser = 1L;
+        buffer.add(1L, "s1", "유저 1", new byte[0]);
+        buffer.add(2L, "s1", "유저 2", new byte[0]);
+        buffer.flush();
+        assertThat(stored.values()).extracting(Row::userId).containsExactly(2L);
+
+        buffer.flush();
+        buffer.flush(); // 유저 1은 세 번째 실패 → 포기
+        buffer.flush();
+        verify(repository, times(5)).upsertAll(anyList()); // 배치 1 + 유저별 2 + 유저 1만 2
+        assertThat(buffer.list(1L)).extracting(AutosaveBuffer.Checkpoint::previewText).containsExactly("유저 1");
+    }
+
+    @Test
+    void drainRetriesBeforeGivingUp() {
+        AutosaveBuffer buffer = buffer(3, 100);
+        doThrow(new RuntimeException("DB down")).doAnswer(invocation -> {
+            List<Row> rows = invocation.getArgument(0);
+            rows.forEach(row -> stored.put(row.userId() + "#" + row.ringIndex(), row));
+            return null;
+        }).when(repository).upsertAll(anyList());
+
+        buffer.add(1L, "s1", "첫 번째", new byte[0]);
+        buffer.drain();
+
+        assertThat(stored.values()).extracting(Row::sceneId).containsExactly("s1");
+    }
+
+    @Test
+    void unpersistedRingIsNotEvicted() {
+        AutosaveBuffer buffer = buffer(3, 1);
+
+        failWrites = true;
+        buffer.add(1L, "s1", "유저 1", new byte[0]);
+        buffer.flush();
+        buffer.add(2L, "s1", "유저 2", new byte[0]);
+        buffer.add(3L, "s1", "유저 3", new byte[0]);
+
+        // DB에 없는 칸이 있으므로 메모리에 남아 있어야 하고, 다시 읽어도 DB를 보지 않습니다.
+        assertThat(buffer.list(1L)).extracting(AutosaveBuffer.Checkpoint::previewText).containsExactly("유저 1");
+        verify(repository, times(1)).findByUser(1L);
+    }
+
+    @Test
+    void evictedRingIsReloadedFromDb() {
+        AutosaveBuffer buffer = buffer(3, 1);
+
+        buffer.add(1L, "s1", "첫 번째", new byte[0]);
+        buffer.add(1L, "s2", "두 번째", new byte[0]);
+        buffer.flush();
+        buffer.add(2L, "s1", "다른 유저", new byte[0]); // 유저 1의 링은 다 반영됐으므로 내려감
+
+        assertThat(buffer.list(1L)).extracting(AutosaveBuffer.Checkpoint::sceneId).containsExactly("s2", "s1");
+        verify(repository, times(2)).findByUser(1L);
+
+        // 복구한 링에 이어서 쓰면 seq가 이어집니다.
+        assertThat(buffer.add(1L, "s3", "세 번째", new byte[0]).seq()).isEqualTo(3L);
+    }
+
+    private AutosaveBuffer buffer(int ringSize, int maxUsers) {
+        return new AutosaveBuffer(repository, mock(PlatformTransactionManager.class), ringSize, maxUsers, 3);
+    }
+}
@@ -0,0 +1,110 @@
+package com.madcamp.love_algorithm.service;
+
+import com.madcamp.love_algorithm.entity.*;
+import com.madcamp.love_algorithm.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 동시에 같은 선택지를 수천 번 골라도 호감도 증가분이 하나도 유실되지 않는지 확인합니다.
+// 범위: 이미 행이 있는 상태의 "증가" 경로만 검증합니다.
+// 같은 (user_id, target_character_id)로 첫 INSERT가 동시에 들어오는 경합은 MySQL의 ON DUPLICATE KEY UPDATE가
+// 원자적으로 처리하지만, 테스트 DB(H2)는 커밋 전 같은 키 INSERT를 중복 키 오류로 끝내므로 여기서는 재현하지 않습니다.
+@SpringBootTest
+class GameServiceConcurrencyTest {
+
+    private static final int USERS = 4;
+    private static final int CHOICES_PER_USER = 1000;
+    private static final int THREADS = 32;
+
+    @Autowired GameService gameService;
+    @Autowired ScenarioCache scenarioCache;
+    @Autowired SceneRepository sceneRepository;
+    @Autowired OptionRepository optionRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired UserAffinityRepository affinityRepository;
+
+    private Long optionId;
+
+    @BeforeEach
+    void setUp() {
+        // 점수 2개(dohee +3, jisoo -1)가 붙은 테스트용 선택지
+        Scene scene = sceneRepository.save(Scene.builder()
+                .id("test_concurrency_scene")
+                .chapterId("test")
+                .eventSeq(1)
+                .title("동시성 테스트")
+                .build());
+
+        // 컨텍스트(DB)는 테스트끼리 공유되므로 선택지는 처음 한 번만 만들고 이후에는 그대로 씁니다.
+        optionId = optionRepository.findByScene(scene).stream()
+                .findFirst()
+                .map(Option::getId)
+                .orElseGet(() -> createOption(scene));
+
+        scenarioCache.load();
+    }
+
+    @Test
+    void parallelChoicesOnExistingRowsKeepExactScores() throws Exception {
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            userIds.add(userRepository.save(User.builder()
+                    .name("tester" + i)
+                    .createdAt(LocalDateTime.now())
+                    .build()).getId());
+        }
+
+        // 첫 선택으로 행을 미리 순서대로 만들어 둡니다. (첫 INSERT 경합은 이 테스트 범위 밖, 클래스 주석 참고)
+        for (Long userId : userIds) {
+            gameService.selectOption(userId, optionId);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 1; i < CHOICES_PER_USER; i++) {
+                for (Long userId : userIds) {
+                    results.add(executor.submit(() -> gameService.selectOption(userId, optionId)));
+                }
+            }
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("test_next");
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        for (Long userId : userIds) {
+            assertThat(gameService.getAffinityScore(userId, "dohee")).isEqualTo(3 * CHOICES_PER_USER);
+            assertThat(gameService.getAffinityScore(userId, "jisoo")).isEqualTo(-CHOICES_PER_USER);
+        }
+        // 유저당 캐릭터별로 정확히 1행만 존재해야 함 (중복 INSERT 없음)
+        long rows = affinityRepository.findAll().stream()
+                .filter(affinity -> userIds.contains(affinity.getUser().getId()))
+                .count();
+        assertThat(rows).isEqualTo(USERS * 2L);
+    }
+
+    private Long createOption(Scene scene) {
+        Option option = Option.builder()
+                .scene(scene)
+                .optionIndex(0)
+                .text("테스트 선택지")
+                .nextSceneId("test_next")
+                .build();
+        option.getOptionScores().add(OptionScore.builder().option(option).targetCharacterId("dohee").score(3).build());
+        option.getOptionScores().add(OptionScore.builder().option(option).targetCharacterId("jisoo").score(-1).build());
+        return optionRepository.save(option).getId();
+    }
+}
@@ -0,0 +1,64 @@
+package com.madcamp.love_algorithm.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.madcamp.love_algorithm.dto.GameStateDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GameStateCodecTest {
+
+    private final GameStateCodec codec = new GameStateCodec(new ObjectMapper());
+
+    @Test
+    void roundTripKeepsFullState() {
+        GameStateDto state = GameStateDto.builder()
+                .currentSceneId("chapter1_scene7")
+                .currentDialogueIndex(12)
+                .history(List.of("chapter1_scene1", "chapter1_scene2", "chapter1_scene7"))
+                .affections(Map.of("jisoo", 15, "dohee", -3))
+                .miniGameScores(Map.of("typing", 980))
+                .previousValues(Map.of(
+                        "background_image_id", "classroom.png",
+                        "character_image_id", Map.of("2", "jisoo_smile.png")))
+                .build();
+
+        GameStateDto decoded = codec.decode(codec.encode(state));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(state);
+    }
+
+    @Test
+    void nullFieldsStayNull() {
+        GameStateDto decoded = codec.decode(codec.encode(GameStateDto.builder().currentSceneId("s1").build()));
+
+        assertThat(decoded.getCurrentSceneId()).isEqualTo("s1");
+        assertThat(decoded.getHistory()).isEmpty();
+        assertThat(decoded.getAffections()).isNull();
+        assertThat(decoded.getPreviousValues()).isNull();
+    }
+
+    @Test
+    void longHistoryCompressesWell() {
+        List<String> history = IntStream.range(0, 500)
+                .mapToObj(i -> "chapter" + (i / 50 + 1) + "_scene" + (i % 50 + 1))
+                .toList();
+
+        byte[] encoded = codec.encode(GameStateDto.builder().currentSceneId("s").history(history).build());
+
+        assertThat(encoded.length).isLessThan(history.stream().mapToInt(String::length).sum() / 2);
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        byte[] encoded = codec.encode(GameStateDto.builder().currentSceneId("s1").build());
+        encoded[1] = 99;
+
+        assertThatThrownBy(() -> codec.decode(encoded)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
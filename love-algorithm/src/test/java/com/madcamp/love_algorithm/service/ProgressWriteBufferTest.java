@@ -0,0 +1,72 @@
+package com.madcamp.love_algorithm.service;
+
+import com.madcamp.love_algorithm.repository.UserProgressJdbcRepository;
+import com.madcamp.love_algorithm.repository.UserProgressJdbcRepository.Progress;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// flush 실패 시 유저별 재시도, 재시도 한도, 한 유저의 잘못된 값이 다른 유저를 막지 않는지 확인합니다.
+class ProgressWriteBufferTest {
+
+    private final UserProgressJdbcRepository repository = mock(UserProgressJdbcRepository.class);
+    private final ProgressWriteBuffer buffer = new ProgressWriteBuffer(
+            repository, mock(UserProfileCache.class), mock(PlatformTransactionManager.class), 3);
+
+    @Test
+    void badRowDoesNotBlockOtherUsers() {
+        doAnswer(invocation -> {
+            Map<Long, Progress> batch = invocation.getArgument(0);
+            if (batch.containsKey(1L)) {
+                throw new DataIntegrityViolationException("too long");
+            }
+            return null;
+        }).when(repository).updateProgress(anyMap());
+
+        buffer.record(1L, progress("s1"));
+        buffer.record(2L, progress("s2"));
+        buffer.flush();
+
+        verify(repository).updateProgress(Map.of(2L, progress("s2")));
+        assertThat(buffer.peek(1L)).isNull(); // 다시 해도 안 되는 값은 버림
+        assertThat(buffer.peek(2L)).isNull();
+    }
+
+    @Test
+    void transientFailureIsRetriedUpToMaxAttempts() {
+        doThrow(new RuntimeException("DB down")).when(repository).updateProgress(anyMap());
+
+        buffer.record(1L, progress("s1"));
+        buffer.flush();
+        buffer.flush();
+        assertThat(buffer.peek(1L)).isEqualTo(progress("s1"));
+
+        buffer.flush(); // 세 번째 실패 → 버림
+        assertThat(buffer.peek(1L)).isNull();
+        verify(repository, times(3)).updateProgress(anyMap());
+    }
+
+    @Test
+    void newerValueWinsOverFailedOne() {
+        doThrow(new RuntimeException("DB down")).doNothing().when(repository).updateProgress(anyMap());
+
+        buffer.record(1L, progress("s1"));
+        buffer.flush();
+        buffer.record(1L, progress("s2"));
+        buffer.drain();
+
+        verify(repository).updateProgress(Map.of(1L, progress("s2")));
+        assertThat(buffer.peek(1L)).isNull();
+    }
+
+    private static Progress progress(String sceneId) {
+        return new Progress(sceneId, 0, "[]", LocalDateTime.of(2026, 1, 1, 0, 0));
+    }
+}
@@ -0,0 +1,149 @@
+package com.madcamp.love_algorithm.service;
+
+import com.madcamp.love_algorithm.dto.AuthRequestDto;
+import com.madcamp.love_algorithm.dto.GameStateDto;
+import com.madcamp.love_algorithm.dto.SaveRequestDto;
+import com.madcamp.love_algorithm.entity.*;
+import com.madcamp.love_algorithm.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static com.madcamp.love_algorithm.support.SqlCount.assertStatements;
+
+// 주요 경로가 실행하는 SQL 문장 수를 고정합니다.
+// 지연 로딩(N+1)이나 불필요한 조회가 끼어들면 숫자가 바뀌어 테스트가 실패합니다.
+// 의도해서 바꾼 경우에는 이유와 함께 예산을 고쳐 주세요.
+@SpringBootTest
+class QueryBudgetTest {
+
+    private static final String SCENE_ID = "test_budget_scene";
+
+    @Autowired GameService gameService;
+    @Autowired SaveService saveService;
+    @Autowired AuthService authService;
+    @Autowired ScenarioCache scenarioCache;
+    @Autowired SceneRepository sceneRepository;
+    @Autowired OptionRepository optionRepository;
+    @Autowired AccountRepository accountRepository;
+    @Autowired UserRepository userRepository;
+
+    private Long optionId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        Scene scene = sceneRepository.save(Scene.builder()
+                .id(SCENE_ID)
+                .chapterId("test")
+                .eventSeq(1)
+                .title("쿼리 예산 테스트")
+                .build());
+
+        // 컨텍스트(DB)는 테스트끼리 공유되므로 선택지는 처음 한 번만 만들고 이후에는 그대로 씁니다.
+        optionId = optionRepository.findByScene(scene).stream()
+                .findFirst()
+                .map(Option::getId)
+                .orElseGet(() -> createOption(scene));
+
+        scenarioCache.load();
+
+        userId = userRepository.save(User.builder()
+                .name("budget")
+                .createdAt(LocalDateTime.now())
+                .build()).getId();
+    }
+
+    // 장면/대사/선택지+점수를 장면 수와 상관없이 쿼리 3번으로 (Scene.dialogues, Option.optionScores 지연 로딩 없음)
+    @Test
+    void scenarioCacheLoad() {
+        assertStatements(3, scenarioCache::load);
+    }
+
+    // 처음엔 이름 조회 1번, 이후에는 프로필 캐시에서
+    @Test
+    void getScene() {
+        assertStatements(1, () -> gameService.getScene(SCENE_ID, userId));
+        assertStatements(0, () -> gameService.getScene(SCENE_ID, userId));
+    }
+
+    // 점수 2개를 upsert 배치 1번으로
+    @Test
+    void selectOption() {
+        assertStatements(1, () -> gameService.selectOption(userId, optionId));
+    }
+
+    @Test
+    void saveGame() {
+        assertStatements(1, () -> saveService.saveGame(userId, request(1)));
+    }
+
+    // 슬롯 조회 + 현재 씬 UPDATE + 이름 조회(프로필 캐시 무효화 후)
+    @Test
+    void loadGame() {
+        saveService.saveGame(userId, request(1));
+
+        assertStatements(3, () -> saveService.loadGame(userId, 1));
+    }
+
+    // 슬롯 수와 상관없이 1번
+    @Test
+    void getSaveSlots() {
+        for (int slot = 1; slot <= 3; slot++) {
+            saveService.saveGame(userId, request(slot));
+        }
+
+        assertStatements(1, () -> saveService.getSaveSlots(userId));
+    }
+
+    // 계정 조회 + 캐릭터 조회 + 리프레시 토큰 INSERT + 마지막 로그인 시각 UPDATE
+    @Test
+    void login() {
+        String email = "budget-" + UUID.randomUUID() + "@test.com";
+        Account account = accountRepository.save(Account.builder()
+                .email(email)
+                .passwordHash("pw")
+                .createdAt(LocalDateTime.now())
+                .build());
+        userRepository.save(User.builder()
+                .name("budget")
+                .account(account)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        AuthRequestDto request = new AuthRequestDto();
+        ReflectionTestUtils.setField(request, "email", email);
+        ReflectionTestUtils.setField(request, "password", "pw");
+
+        assertStatements(4, () -> authService.login(request));
+    }
+
+    private static SaveRequestDto request(int slotNumber) {
+        SaveRequestDto request = new SaveRequestDto();
+        ReflectionTestUtils.setField(request, "slotNumber", slotNumber);
+        ReflectionTestUtils.setField(request, "previewText", "쿼리 예산");
+        ReflectionTestUtils.setField(request, "gameState", GameStateDto.builder()
+                .currentSceneId(SCENE_ID)
+                .history(List.of(SCENE_ID))
+                .build());
+        return request;
+    }
+
+    private Long createOption(Scene scene) {
+        Option option = Option.builder()
+                .scene(scene)
+                .optionIndex(0)
+                .text("테스트 선택지")
+                .nextSceneId("test_next")
+                .build();
+        option.getOptionScores().add(OptionScore.builder().option(option).targetCharacterId("dohee").score(3).build());
+        option.getOptionScores().add(OptionScore.builder().option(option).targetCharacterId("jisoo").score(-1).build());
+        return optionRepository.save(option).getId();
+    }
+}
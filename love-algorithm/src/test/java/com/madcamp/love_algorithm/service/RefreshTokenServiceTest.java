@@ -0,0 +1,107 @@
+package com.madcamp.love_algorithm.service;
+
+import com.madcamp.love_algorithm.dto.AuthResponseDto;
+import com.madcamp.love_algorithm.dto.RefreshRequestDto;
+import com.madcamp.love_algorithm.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 리프레시 토큰 교체: 한 번 쓴 토큰은 다시 못 쓰고, 다시 쓰려고 하면 그 계정의 토큰이 전부 폐기되는지 확인합니다.
+@SpringBootTest
+class RefreshTokenServiceTest {
+
+    // 다른 테스트와 계정 ID가 겹치지 않도록 (account_id는 FK가 없는 값)
+    private static final AtomicLong ACCOUNT_IDS = new AtomicLong(9_000_000L);
+
+    @Autowired RefreshTokenService refreshTokenService;
+    @Autowired RefreshTokenRepository refreshTokenRepository;
+    @Autowired AuthService authService;
+
+    @Test
+    void rotateConsumesToken() {
+        Long accountId = ACCOUNT_IDS.incrementAndGet();
+        String token = refreshTokenService.issue(accountId);
+
+        assertThat(refreshTokenService.rotate(token)).isEqualTo(accountId);
+        assertUnauthorized(() -> refreshTokenService.rotate(token));
+    }
+
+    @Test
+    void reusingRotatedTokenRevokesEveryTokenOfTheAccount() {
+        Long accountId = ACCOUNT_IDS.incrementAndGet();
+        Long otherAccountId = ACCOUNT_IDS.incrementAndGet();
+        String first = refreshTokenService.issue(accountId);
+        String otherDevice = refreshTokenService.issue(accountId);
+        String otherAccount = refreshTokenService.issue(otherAccountId);
+
+        // 정상 교체 (AuthService.refresh처럼 새 토큰 발급)
+        assertThat(refreshTokenService.rotate(first)).isEqualTo(accountId);
+        String second = refreshTokenService.issue(accountId);
+
+        // 교체된 토큰 재사용 → 거절 + 계정의 살아 있던 토큰(교체로 받은 것, 다른 기기 것) 전부 폐기
+        assertUnauthorized(() -> refreshTokenService.rotate(first));
+        assertThat(refreshTokenRepository.findAll())
+                .filteredOn(stored -> stored.getAccountId().equals(accountId))
+                .hasSize(3)
+                .allSatisfy(stored -> assertThat(stored.getRevokedAt()).isNotNull());
+        assertUnauthorized(() -> refreshTokenService.rotate(second));
+        assertUnauthorized(() -> refreshTokenService.rotate(otherDevice));
+
+        // 다른 계정은 영향 없음
+        assertThat(refreshTokenService.rotate(otherAccount)).isEqualTo(otherAccountId);
+    }
+
+    @Test
+    void reuseThroughAuthServiceRefreshKeepsTheRevocation() {
+        Long accountId = ACCOUNT_IDS.incrementAndGet();
+        String first = refreshTokenService.issue(accountId);
+
+        AuthResponseDto refreshed = authService.refresh(refreshRequest(first));
+        assertThat(refreshed.getAccountId()).isEqualTo(accountId);
+
+        // refresh 트랜잭션이 401로 끝나도 rotate 안에서 한 전부 폐기는 남아 있어야 함
+        assertUnauthorized(() -> authService.refresh(refreshRequest(first)));
+        assertThat(refreshTokenRepository.findAll())
+                .filteredOn(stored -> stored.getAccountId().equals(accountId))
+                .hasSize(2)
+                .allSatisfy(stored -> assertThat(stored.getRevokedAt()).isNotNull());
+        assertUnauthorized(() -> authService.refresh(refreshRequest(refreshed.getRefreshToken())));
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        RefreshTokenService expiring = new RefreshTokenService(refreshTokenRepository, Duration.ofSeconds(-1));
+        String token = expiring.issue(ACCOUNT_IDS.incrementAndGet());
+
+        assertUnauthorized(() -> refreshTokenService.rotate(token));
+    }
+
+    @Test
+    void unknownOrMissingTokenIsRejected() {
+        assertUnauthorized(() -> refreshTokenService.rotate("not-issued-by-us"));
+        assertUnauthorized(() -> refreshTokenService.rotate(""));
+        assertUnauthorized(() -> refreshTokenService.rotate(null));
+    }
+
+    private static RefreshRequestDto refreshRequest(String token) {
+        RefreshRequestDto request = new RefreshRequestDto();
+        ReflectionTestUtils.setField(request, "refreshToken", token);
+        return request;
+    }
+
+    private static void assertUnauthorized(Runnable call) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED));
+    }
+}
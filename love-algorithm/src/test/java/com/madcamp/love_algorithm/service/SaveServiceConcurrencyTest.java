@@ -0,0 +1,100 @@
+package com.madcamp.love_algorithm.service;
+
+import com.madcamp.love_algorithm.dto.GameStateDto;
+import com.madcamp.love_algorithm.dto.SaveRequestDto;
+import com.madcamp.love_algorithm.dto.SaveSlotSummary;
+import com.madcamp.love_algorithm.entity.User;
+import com.madcamp.love_algorithm.repository.SaveSlotRepository;
+import com.madcamp.love_algorithm.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 자동 저장/수동 저장이 같은 슬롯에 동시에 들어와도 슬롯당 정확히 한 행만 남는지 확인합니다.
+@SpringBootTest
+class SaveServiceConcurrencyTest {
+
+    private static final int SLOTS = 3;
+    private static final int SAVES_PER_SLOT = 200;
+    private static final int THREADS = 32;
+
+    @Autowired SaveService saveService;
+    @Autowired SaveSlotRepository saveSlotRepository;
+    @Autowired UserRepository userRepository;
+
+    @Test
+    void saveForMissingUserIsReportedAsMissingUser() {
+        assertThatThrownBy(() -> saveService.saveGame(Long.MAX_VALUE, request(1, "scene_0")))
+                .hasMessage("유저를 찾을 수 없습니다.");
+    }
+
+    @Test
+    void concurrentSavesKeepOneRowPerSlot() throws Exception {
+        Long userId = userRepository.save(User.builder()
+                .name("saver")
+                .createdAt(LocalDateTime.now())
+                .build()).getId();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < SAVES_PER_SLOT; i++) {
+                for (int slot = 1; slot <= SLOTS; slot++) {
+                    SaveRequestDto request = request(slot, "scene_" + i);
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        save(userId, request);
+                        return null;
+                    }));
+                }
+            }
+            start.countDown(); // 첫 INSERT부터 경합하도록 한꺼번에 출발
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        List<SaveSlotSummary> slots = saveSlotRepository.findSummariesByUserId(userId);
+        assertThat(slots).extracting(SaveSlotSummary::slotNumber).containsExactly(1, 2, 3);
+        for (int slot = 1; slot <= SLOTS; slot++) {
+            assertThat(saveService.loadGame(userId, slot).getGameState().getCurrentSceneId()).startsWith("scene_");
+        }
+    }
+
+    // MySQL은 같은 키 동시 INSERT도 ON DUPLICATE KEY UPDATE로 처리하지만, H2의 MySQL 모드는
+    // 먼저 커밋된 쪽과 키 충돌로 끝납니다. 그래서 테스트에서만 한 번 더 실행해 갱신 경로로 보냅니다.
+    private void save(Long userId, SaveRequestDto request) {
+        try {
+            saveService.saveGame(userId, request);
+        } catch (DuplicateKeyException e) {
+            saveService.saveGame(userId, request);
+        }
+    }
+
+    private static SaveRequestDto request(int slotNumber, String sceneId) {
+        SaveRequestDto request = new SaveRequestDto();
+        ReflectionTestUtils.setField(request, "slotNumber", slotNumber);
+        ReflectionTestUtils.setField(request, "previewText", "자동 저장");
+        ReflectionTestUtils.setField(request, "gameState", GameStateDto.builder()
+                .currentSceneId(sceneId)
+                .history(List.of(sceneId))
+                .build());
+        return request;
+    }
+}
@@ -0,0 +1,63 @@
+package com.madcamp.love_algorithm.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// Accept-Encoding 협상과 표현별 ETag, 매핑 모드에서 힙에 남기는 본문
+class ScenarioSnapshotTest {
+
+    @Test
+    void acceptsGzipHonoursQValues() {
+        assertThat(ScenarioSnapshot.acceptsGzip("gzip, deflate, br")).isTrue();
+        assertThat(ScenarioSnapshot.acceptsGzip("br;q=1.0, gzip;q=0.8")).isTrue();
+        assertThat(ScenarioSnapshot.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(ScenarioSnapshot.acceptsGzip("gzip; q=0.0, identity")).isFalse();
+        assertThat(ScenarioSnapshot.acceptsGzip("*")).isTrue();
+        assertThat(ScenarioSnapshot.acceptsGzip("*;q=0")).isFalse();
+        assertThat(ScenarioSnapshot.acceptsGzip("gzip;q=0, *")).isFalse(); // gzip을 직접 거부하면 * 보다 우선
+        assertThat(ScenarioSnapshot.acceptsGzip("identity")).isFalse();
+        assertThat(ScenarioSnapshot.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    void gzipRepresentationHasItsOwnETag() {
+        ScenarioSnapshot.Snapshot snapshot = new ScenarioSnapshot.Snapshot(new byte[0], new byte[0], "\"abc\"", Map.of());
+
+        assertThat(snapshot.gzipEtag()).isEqualTo("\"abc-gz\"");
+        assertThat(ScenarioSnapshot.matches("\"abc\"", snapshot.gzipEtag())).isFalse();
+    }
+
+    @Test
+    void mappedModeKeepsOnlyGzipOnHeap() throws Exception {
+        assertThat(build(false).identity()).isNotNull();
+
+        ScenarioSnapshot.Snapshot mapped = build(true);
+        assertThat(mapped.identity()).isNull();
+        assertThat(mapped.gzip()).isNotEmpty();
+        assertThat(mapped.etag()).isEqualTo(build(false).etag()); // 스트리밍으로 보내는 원본도 같은 ETag
+    }
+
+    private static ScenarioSnapshot.Snapshot build(boolean mapped) throws Exception {
+        ScenarioCache scenarioCache = mock(ScenarioCache.class);
+        when(scenarioCache.isScriptsMapped()).thenReturn(mapped);
+        when(scenarioCache.getScenes()).thenReturn(List.of());
+        ScenarioExportWriter writer = mock(ScenarioExportWriter.class);
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(0).write("{\"scenes\":[]}".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(writer).writeScripts(any());
+
+        ScenarioSnapshot snapshot = new ScenarioSnapshot(scenarioCache, writer, new ObjectMapper());
+        snapshot.build();
+        return snapshot.get();
+    }
+}
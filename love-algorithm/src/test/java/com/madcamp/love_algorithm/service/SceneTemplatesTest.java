@@ -0,0 +1,118 @@
+package com.madcamp.love_algorithm.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.madcamp.love_algorithm.dto.ApiResponse;
+import com.madcamp.love_algorithm.dto.OptionDto;
+import com.madcamp.love_algorithm.dto.SceneResponseDto;
+import com.madcamp.love_algorithm.dto.ScriptResponseDto;
+import com.madcamp.love_algorithm.entity.ScriptType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 템플릿에 이름을 끼워 넣은 결과가 DTO를 직렬화한 결과와 같은지 확인합니다.
+class SceneTemplatesTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ScenarioCache.SceneNode scene = new ScenarioCache.SceneNode(
+            "s1", "chapter1", 1, "테스트", "s2",
+            List.of(
+                    new ScenarioCache.ScriptNode("s1_000", 0, ScriptType.TEXT, "hero", "나는 이도훈이다.",
+                            null, null, null, null, null),
+                    new ScenarioCache.ScriptNode("s1_001", 1, ScriptType.TEXT, "jisoo", "도훈아, 안녕!",
+                            null, null, null, null, null),
+                    new ScenarioCache.ScriptNode("s1_002", 2, ScriptType.NARRATION, null, "이름 없는 대사",
+                            null, null, null, null, null)),
+            List.of(new ScenarioCache.OptionNode(7L, "s1", "다음", "s2", List.of())));
+
+    @Test
+    void renderMatchesDtoSerialization() throws Exception {
+        SceneTemplates templates = new SceneTemplates(cacheWith(scene), objectMapper);
+
+        for (String name : List.of("민수", "Kim \"Q\" \\ ㅋ", "")) {
+            String expected = objectMapper.writeValueAsString(ApiResponse.success(SceneResponseDto.builder()
+                    .sceneId(scene.id())
+                    .scripts(scene.scripts().stream().map(s -> ScriptResponseDto.from(s, name)).toList())
+                    .options(scene.options().stream().map(OptionDto::from).toList())
+                    .build()));
+
+            assertThat(new String(templates.render("s1", name), StandardCharsets.UTF_8)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void fullNameIsReplacedBeforeShortName() throws Exception {
+        SceneTemplates templates = new SceneTemplates(cacheWith(scene), objectMapper);
+
+        String json = new String(templates.render("s1", "민수"), StandardCharsets.UTF_8);
+
+        assertThat(json).contains("나는 민수이다.").contains("민수아, 안녕!").doesNotContain("이민수");
+    }
+
+    @Test
+    void mappedModeRendersSameBytesWithoutCaching() {
+        ScenarioCache mappedCache = cacheWith(scene);
+        when(mappedCache.isScriptsMapped()).thenReturn(true);
+        SceneTemplates mapped = new SceneTemplates(mappedCache, objectMapper);
+        SceneTemplates cached = new SceneTemplates(cacheWith(scene), objectMapper);
+
+        assertThat(mapped.render("s1", "민수")).isEqualTo(cached.render("s1", "민수"));
+        assertThat(mapped.render("s1", "민수")).isEqualTo(cached.render("s1", "민수"));
+    }
+
+    // s1 → s2 (기본 다음 장면, 선택지) → s3
+    @Test
+    void bundleFollowsSuccessorsUpToDepthAndBudget() throws Exception {
+        ScenarioCache.SceneNode s2 = new ScenarioCache.SceneNode("s2", "chapter1", 2, "둘", "s3",
+                List.of(new ScenarioCache.ScriptNode("s2_000", 0, ScriptType.TEXT, "jisoo", "도훈아, 다음이야",
+                        null, null, null, null, null)),
+                List.of());
+        ScenarioCache.SceneNode s3 = new ScenarioCache.SceneNode("s3", "chapter1", 3, "셋", null, List.of(), List.of());
+        ScenarioCache cache = cacheWith(scene);
+        when(cache.findScene("s2")).thenReturn(Optional.of(s2));
+        when(cache.findScene("s3")).thenReturn(Optional.of(s3));
+        when(cache.findSuccessors("s1")).thenReturn(List.of("s2"));
+        when(cache.findSuccessors("s2")).thenReturn(List.of("s3"));
+        SceneTemplates templates = new SceneTemplates(cache, objectMapper);
+
+        assertThat(prefetchedIds(templates.renderBundle("s1", "민수", 1, 65536))).containsExactly("s2");
+        assertThat(prefetchedIds(templates.renderBundle("s1", "민수", 2, 65536))).containsExactly("s2", "s3");
+        assertThat(prefetchedIds(templates.renderBundle("s1", "민수", 2, 10))).isEmpty();
+        assertThat(templates.renderBundle("s1", "민수", 2, 65536).sceneIds()).containsExactly("s1", "s2", "s3");
+
+        // 고르기만 해도 같은 장면 ID가 나오고(ETag용), 고른 ID로 조립하면 같은 바이트
+        List<String> selected = templates.selectBundle("s1", "민수", 2, 65536);
+        assertThat(selected).containsExactly("s1", "s2", "s3");
+        assertThat(templates.assembleBundle(selected, "민수"))
+                .isEqualTo(templates.renderBundle("s1", "민수", 2, 65536).json());
+
+        // prefetched를 빼면 단건 응답과 같고, 미리 보낸 장면에도 이름이 들어감
+        JsonNode bundle = objectMapper.readTree(templates.renderBundle("s1", "민수", 1, 65536).json());
+        assertThat(bundle.at("/data/prefetched/0/scripts/0/content").asText()).isEqualTo("민수아, 다음이야");
+        ((ObjectNode) bundle.get("data")).remove("prefetched");
+        assertThat(bundle).isEqualTo(objectMapper.readTree(templates.render("s1", "민수")));
+    }
+
+    private List<String> prefetchedIds(SceneTemplates.Bundle bundle) throws Exception {
+        List<String> ids = new ArrayList<>();
+        objectMapper.readTree(bundle.json()).at("/data/prefetched")
+                .forEach(scene -> ids.add(scene.get("sceneId").asText()));
+        return ids;
+    }
+
+    private static ScenarioCache cacheWith(ScenarioCache.SceneNode scene) {
+        ScenarioCache cache = mock(ScenarioCache.class);
+        when(cache.findScene(scene.id())).thenReturn(Optional.of(scene));
+        return cache;
+    }
+}
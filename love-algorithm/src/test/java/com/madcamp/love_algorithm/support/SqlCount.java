@@ -0,0 +1,27 @@
+package com.madcamp.love_algorithm.support;
+
+import com.madcamp.love_algorithm.metrics.SqlStatementCounter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 블록 안에서 실행된 SQL 문장 수 (CountingDataSource가 현재 스레드에서 센 값)
+// 배치는 문장 하나로 셉니다. 다른 스레드(flush 스케줄러 등)에서 실행된 문장은 세지 않습니다.
+public final class SqlCount {
+
+    private SqlCount() {
+    }
+
+    public static int of(Runnable block) {
+        SqlStatementCounter.start();
+        try {
+            block.run();
+            return SqlStatementCounter.current();
+        } finally {
+            SqlStatementCounter.stop();
+        }
+    }
+
+    public static void assertStatements(int expected, Runnable block) {
+        assertThat(of(block)).as("실행된 SQL 문장 수").isEqualTo(expected);
+    }
+}
@@ -543,7 +543,7 @@ export const saveMiniGameScore = async (gameId: string, score: number) => {
 // 세이브/로드 관련
 export const saveToSlot = async (slotIndex: number, gameState: GameState, preview: string) => {
   // 백엔드: POST /api/save/slots
-  // 백엔드 SaveRequestDto 형식: userId, slotNumber, sceneId, previewText
+  // 백엔드 SaveRequestDto 형식: userId, slotNumber, sceneId, previewText, gameState
   // 현재 사용자 정보 가져오기
   const currentUser = await fetchCurrentUser();
   if (!currentUser || !currentUser.userId) {
@@ -554,7 +554,8 @@ export const saveToSlot = async (slotIndex: number, gameState: GameState, previe
     userId: currentUser.userId,
     slotNumber: slotIndex,
     sceneId: gameState.currentSceneId,
-    previewText: preview
+    previewText: preview,
+    gameState
   };
   
   console.log('💾 저장 요청 데이터:', JSON.stringify(requestBody, null, 2));